@@ -4,6 +4,8 @@ import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.*;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.tterrag.registrate.builders.*;
 import com.tterrag.registrate.builders.BlockEntityBuilder.BlockEntityFactory;
 import com.tterrag.registrate.builders.EnchantmentBuilder.EnchantmentFactory;
@@ -13,11 +15,18 @@ import com.tterrag.registrate.builders.MenuBuilder.ScreenFactory;
 import com.tterrag.registrate.fabric.RegistryObject;
 import com.tterrag.registrate.fabric.RegistryUtil;
 import com.tterrag.registrate.fabric.SimpleFlowableFluid;
+import com.tterrag.registrate.providers.DatagenProfiler;
 import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.providers.PseudoLocale;
 import com.tterrag.registrate.providers.RegistrateDataProvider;
 import com.tterrag.registrate.providers.RegistrateProvider;
+import com.tterrag.registrate.util.BulkRegistrar;
 import com.tterrag.registrate.util.DebugMarkers;
+import com.tterrag.registrate.util.GeneratorFingerprint;
+import com.tterrag.registrate.util.TraceRecorder;
 import com.tterrag.registrate.util.entry.RegistryEntry;
+import com.tterrag.registrate.util.entry.SiblingLinks;
+import com.tterrag.registrate.util.jfr.*;
 import com.tterrag.registrate.util.nullness.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -58,19 +67,26 @@ import org.apache.logging.log4j.message.Message;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Manages all registrations and data generators for a mod.
  * <p>
- * Generally <em>not</em> thread-safe, as it holds the current name of the object being built statefully, and uses non-concurrent collections.
+ * Generally <em>not</em> thread-safe, as it holds the current name of the object being built statefully, and uses non-concurrent collections. Entries can be declared from several threads
+ * after enabling {@link #concurrentDeclaration()}.
  * <p>
  * Begin a new object via {@link #object(String)}. This name will be used for all future entries until the next invocation of {@link #object(String)}. Alternatively, the methods that accept a name
  * parameter (such as {@link #block(String, NonNullFunction)}) can be used. These do not affect the current name state.
@@ -99,58 +115,119 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         ResourceKey<? extends Registry<R>> type;
         NonNullSupplier<? extends T> creator;
         RegistryEntry<T> delegate;
-        
+        /** Queried at registration time, as builders can still be configured after they are registered. Null for entries {@linkplain AbstractRegistrate#declare declared} without a builder. */
         @Getter(value = AccessLevel.NONE)
-        List<NonNullConsumer<? super T>> callbacks = new ArrayList<>();
+        @Nullable
+        Builder<R, T, ?, ?> builder;
 
-        Registration(ResourceLocation name, ResourceKey<? extends Registry<R>> type, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
+        Registration(ResourceLocation name, ResourceKey<? extends Registry<R>> type, @Nullable Builder<R, T, ?, ?> builder, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
             this.name = name;
             this.type = type;
+            this.builder = builder;
             this.creator =  creator.lazy();
-            this.delegate = entryFactory.apply(RegistryObject.create(name, type.location(), AbstractRegistrate.this.getModid()));
+            this.delegate = entryFactory.apply(RegistryObject.unbound(name, RegistryUtil.getRegistry(type)));
+        }
+
+        boolean isMainThreadOnly() {
+            return builder != null && builder.isMainThreadOnly();
         }
         
         void register(Registry<R> registry) {
+            register(registry, create());
+        }
+
+        T create() {
+            EntryConstructionEvent event = new EntryConstructionEvent();
+            event.begin();
             T entry = creator.get();
-            Registry.register(registry, name, entry);
-            delegate.updateReference(registry);
-            callbacks.forEach(c -> c.accept(entry));
-            callbacks.clear();
+            TraceRecorder.record(TraceRecorder.Kind.CONSTRUCTED, modid, type, name);
+            if (event.shouldCommit()) {
+                event.modid = getModid();
+                event.registry = type.location().toString();
+                event.entry = name.toString();
+                event.commit();
+            }
+            return entry;
         }
-        
-        void addRegisterCallback(NonNullConsumer<? super T> callback) {
-            Preconditions.checkNotNull(callback, "Callback must not be null");
-            callbacks.add(callback);
+
+        void register(Registry<R> registry, T entry) {
+            delegate.updateReference(registry, Registry.register(registry, name, entry));
+            TraceRecorder.record(TraceRecorder.Kind.REGISTERED, modid, type, name);
+            scheduler.satisfy(entryKey(type, name));
+            // Before the next entry is registered, so its callbacks can rely on their side effects
+            scheduler.runReady();
         }
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ResourceKey<?> entryKey(ResourceKey<? extends Registry<?>> type, ResourceLocation id) {
+        return ResourceKey.create((ResourceKey) type, id);
+    }
+
     public static boolean isDevEnvironment() {
         return FabricLoader.getInstance().isDevelopmentEnvironment();
     }
 
-    private final Table<String, ResourceKey<? extends Registry<?>>, Registration<?, ?>> registrations = HashBasedTable.create();
-    /** Expected to be emptied by the time registration occurs, is emptied by {@link #accept(String, Class, Builder, NonNullSupplier, NonNullFunction)} */
-    private final Multimap<Pair<String, ResourceKey<? extends Registry<?>>>, NonNullConsumer<?>> registerCallbacks = HashMultimap.create();
-    /** Entry-less callbacks that are invoked after the registry type has completely finished */
-    private final Multimap<ResourceKey<? extends Registry<?>>, Runnable> afterRegisterCallbacks = HashMultimap.create();
+    /**
+     * Registrations bucketed by registry, each bucket in insertion order (or name order, in concurrent mode).
+     */
+    private final Map<ResourceKey<? extends Registry<?>>, Map<String, Registration<?, ?>>> registrations = new ConcurrentHashMap<>();
+    /** Register callbacks, both per entry and after a registry has completely finished */
+    private final CallbackScheduler scheduler;
     private final Set<ResourceKey<? extends Registry<?>>> completedRegistrations = new HashSet<>();
-
-    private final Table<Pair<String, ResourceKey<? extends Registry<?>>>, ProviderType<?>, Consumer<? extends RegistrateProvider>> datagensByEntry = HashBasedTable.create();
+    /** Set once every registry with registrations has completed, replacing all of the above. See {@link #seal()}. */
+    @Nullable
+    private volatile Map<ResourceKey<? extends Registry<?>>, Map<String, RegistryEntry<?>>> sealedEntries;
+
+    /** Completed directly once this registrate has completed each registry, see {@link #whenRegistryComplete(ResourceKey)} */
+    private final Map<ResourceKey<?>, CompletableFuture<Void>> registryCompletion = new ConcurrentHashMap<>();
+    /** Entries by name, linking the entries of different registries which share a name. Kept after sealing, as entries resolve their links lazily. */
+    private final Map<String, SiblingLinks> siblings = new ConcurrentHashMap<>();
+    /** Guarded by {@link #datagens} */
+    private final Map<ResourceKey<? extends Registry<?>>, Table<String, ProviderType<?>, Consumer<? extends RegistrateProvider>>> datagensByEntry = new HashMap<>();
     private final ListMultimap<ProviderType<?>, @NonnullType NonNullConsumer<? extends RegistrateProvider>> datagens = ArrayListMultimap.create();
+    /** The entry each generator in {@link #datagensByEntry} belongs to, by identity. Guarded by {@link #datagens} */
+    private final Map<Consumer<? extends RegistrateProvider>, GeneratorOwner> generatorOwners = new IdentityHashMap<>();
+    /** Generators which must not run concurrently with others of their type, guarded by {@link #datagens} */
+    private final Set<NonNullConsumer<? extends RegistrateProvider>> serialGenerators = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Generators skipped by incremental datagen, by key, see {@link #skipDataGenerators(ProviderType, Set)} */
+    private final Map<ProviderType<?>, Set<String>> skippedGenerators = new ConcurrentHashMap<>();
     
     private final NonNullSupplier<Boolean> doDatagen = NonNullSupplier.lazy(() -> System.getProperty("fabric-api.datagen") != null);
 
+    private record GeneratorOwner(String entry, ResourceKey<? extends Registry<?>> registry, ProviderType<?> type) {}
+
+    @Nullable
+    private final DatagenProfiler datagenProfiler;
+
     /**
      * @return The mod ID that this {@link AbstractRegistrate} is creating objects for
      */
     @Getter
     private final String modid;
     
+    /** The state modified by the fluent methods, such as {@link #object(String)} and {@link #creativeModeTab(NonNullSupplier)} */
+    private static class DeclarationState {
+        @Nullable
+        private String currentName;
+        @Nullable
+        private Supplier<? extends @NonnullType CreativeModeTab> currentTab;
+    }
+    
+    private final DeclarationState sharedState = new DeclarationState();
+    /** Replaces {@link #sharedState} once {@link #concurrentDeclaration()} is enabled */
     @Nullable
-    private String currentName;
-    @Nullable
-    private Supplier<? extends @NonnullType CreativeModeTab> currentTab;
+    private volatile ThreadLocal<DeclarationState> threadState;
     private boolean skipErrors;
+    private boolean parallelConstruction;
+    private boolean parallelDatagen;
+    private List<PseudoLocale> pseudoLocales = ImmutableList.of(PseudoLocale.UPSIDE_DOWN);
+
+    /**
+     * @return The live statistics of this {@link AbstractRegistrate}
+     */
+    @Getter
+    private final RegistrateMetrics metrics;
     
     /**
      * Construct a new Registrate for the given mod ID.
@@ -160,6 +237,9 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     protected AbstractRegistrate(String modid) {
         this.modid = modid;
+        this.scheduler = new CallbackScheduler(modid);
+        this.metrics = new RegistrateMetrics(this);
+        this.datagenProfiler = DatagenProfiler.ENABLED ? new DatagenProfiler(modid) : null;
     }
     
     @SuppressWarnings("unchecked")
@@ -167,52 +247,286 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return (S) this;
     }
 
+    /**
+     * Register all entries. Registries are walked by the shared {@link RegistrateCoordinator}, which only visits this registrate for registries it has entries or callbacks for.
+     * <p>
+     * Mods with several registrates can register them together within {@link RegistrateCoordinator#batch(Runnable)}, so registries are walked once for all of them.
+     */
     public void register() {
-        RegistryUtil.forAllRegistries(registry -> {
-            onRegister(registry);
-            onRegisterLate(registry);
-        });
+        RegistrateCoordinator.register(this);
+    }
+
+    /**
+     * @return {@code true} if this registrate has anything to do when the given registry is registered, either entries to register or callbacks waiting on the registry
+     */
+    boolean hasRegistrationWork(ResourceKey<? extends Registry<?>> type) {
+        if (sealedEntries != null) {
+            return false;
+        }
+        Map<String, Registration<?, ?>> registrationsForType = registrations.get(type);
+        return (registrationsForType != null && !registrationsForType.isEmpty()) || scheduler.isWaitingOn(type);
+    }
+
+    /**
+     * Mark registries this registrate has no work for as complete, without visiting them.
+     */
+    void skipRegistries(Collection<ResourceKey<? extends Registry<?>>> types) {
+        if (types.isEmpty() || sealedEntries != null) {
+            return;
+        }
+        completedRegistrations.addAll(types);
+        scheduler.satisfyAll(types);
+        types.forEach(this::completeRegistry);
+        scheduler.runReady();
+        if (!scheduler.hasPendingCallbacks() && isRegistrationComplete()) {
+            seal();
+        }
     }
 
     protected void onRegister(Registry<?> registry) {
+        try {
+            registerAll(registry);
+        } catch (RuntimeException | Error e) {
+            dumpTrace("Registration of " + registry.key().location() + " failed");
+            throw e;
+        }
+    }
+
+    private void registerAll(Registry<?> registry) {
         ResourceKey<? extends Registry<?>> type = registry.key();
         if (type == null) {
             log.debug(DebugMarkers.REGISTER, "Skipping invalid registry with no supertype: " + type);
             return;
         }
-        if (!registerCallbacks.isEmpty()) {
-            registerCallbacks.asMap().forEach((k, v) -> log.warn("Found {} unused register callback(s) for entry {} [{}]. Was the entry ever registered?", v.size(), k.getLeft(), k.getRight().location()));
-            registerCallbacks.clear();
+        checkUnusedCallbacks();
+        Map<String, Registration<?, ?>> registrationsForType = registrations.get(type);
+        if (registrationsForType != null && !registrationsForType.isEmpty()) {
+            log.debug(DebugMarkers.REGISTER, "Registering {} known objects of type {}", registrationsForType.size(), type.location());
+            RegistryRegistrationEvent event = new RegistryRegistrationEvent();
+            event.begin();
+            long start = System.nanoTime();
+            if (parallelConstruction && registrationsForType.size() > 1) {
+                registerParallel(registry, type, registrationsForType.values());
+            } else {
+                for (Registration<?, ?> reg : registrationsForType.values()) {
+                    try {
+                        reg.register((Registry) registry);
+                        log.debug(DebugMarkers.REGISTER, "Registered {} to registry {}", reg.getName(), type);
+                    } catch (Exception ex) {
+                        handleRegisterError(reg, type, ex);
+                    }
+                }
+            }
+            scheduler.runReady();
+            metrics.recordRegisterTime(type, System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.modid = modid;
+                event.registry = type.location().toString();
+                event.entries = registrationsForType.size();
+                event.commit();
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void checkUnusedCallbacks() {
+        Set<ResourceKey<?>> undeclared = scheduler.getUndeclaredEntries();
+        if (!undeclared.isEmpty()) {
+            for (ResourceKey<?> key : undeclared) {
+                int count = scheduler.cancel(key);
+                metrics.recordUnusedCallbacks(count);
+                log.warn("Found {} unused register callback(s) for entry {}. Was the entry ever registered?", count, key);
+            }
             if (isDevEnvironment()) {
                 throw new IllegalStateException("Found unused register callbacks, see logs");
             }
         }
-        Map<String, Registration<?, ?>> registrationsForType = registrations.column(type);
-        if (registrationsForType.size() > 0) {
-            log.debug(DebugMarkers.REGISTER, "Registering {} known objects of type {}", registrationsForType.size(), type.location());
-            for (Entry<String, Registration<?, ?>> e : registrationsForType.entrySet()) {
+    }
+
+    private void registerParallel(Registry<?> registry, ResourceKey<? extends Registry<?>> type, Collection<Registration<?, ?>> registrationsForType) {
+        List<Registration<?, ?>> regs = new ArrayList<>(registrationsForType);
+        Object[] entries = new Object[regs.size()];
+        Exception[] errors = new Exception[regs.size()];
+        // Construct everything that allows it on the pool first
+        ForkJoinPool.commonPool().submit(() -> IntStream.range(0, regs.size()).parallel()
+                .filter(i -> !regs.get(i).isMainThreadOnly())
+                .forEach(i -> construct(regs, entries, errors, i)))
+                .join();
+        // Commit in declaration order, so registry IDs and callback order match serial registration. Main thread only entries are constructed here, once every entry declared before them is
+        // registered, exactly as in serial registration
+        for (int i = 0; i < regs.size(); i++) {
+            Registration reg = regs.get(i);
+            if (reg.isMainThreadOnly()) {
+                construct(regs, entries, errors, i);
+            }
+            Exception error = errors[i];
+            if (error == null) {
                 try {
-                    e.getValue().register((Registry) registry);
-                    log.debug(DebugMarkers.REGISTER, "Registered {} to registry {}", e.getValue().getName(), type);
+                    reg.register((Registry) registry, entries[i]);
+                    log.debug(DebugMarkers.REGISTER, "Registered {} to registry {}", reg.getName(), type);
                 } catch (Exception ex) {
-                    String err = "Unexpected error while registering entry " + e.getValue().getName() + " to registry " + type;
-                    if (skipErrors) {
-                        log.error(DebugMarkers.REGISTER, err);
-                    } else {
-                        throw new RuntimeException(err, ex);
-                    }
+                    error = ex;
                 }
             }
+            if (error != null) {
+                handleRegisterError(reg, type, error);
+            }
+        }
+    }
+
+    private void construct(List<Registration<?, ?>> regs, Object[] entries, Exception[] errors, int index) {
+        try {
+            entries[index] = regs.get(index).create();
+        } catch (Exception ex) {
+            errors[index] = ex;
+        }
+    }
+
+    private void dumpTrace(String reason) {
+        log.error("{}, most recent registrate events:", reason);
+        TraceRecorder.dump(log::error);
+    }
+
+    private void handleRegisterError(Registration<?, ?> reg, ResourceKey<? extends Registry<?>> type, Exception ex) {
+        String err = "Unexpected error while registering entry " + reg.getName() + " to registry " + type;
+        if (skipErrors) {
+            log.error(DebugMarkers.REGISTER, err);
+            // The entry is never registered, so its callbacks could never run
+            int count = scheduler.cancel(entryKey(type, reg.getName()));
+            if (count > 0) {
+                metrics.recordUnusedCallbacks(count);
+                log.warn(DebugMarkers.REGISTER, "Dropped {} register callback(s) of failed entry {}", count, reg.getName());
+            }
+        } else {
+            throw new RuntimeException(err, ex);
         }
     }
 
     protected void onRegisterLate(Registry<?> event) {
         @SuppressWarnings("unchecked")
         ResourceKey<? extends Registry<?>> type = event.key();
-        Collection<Runnable> callbacks = afterRegisterCallbacks.get(type);
-        callbacks.forEach(Runnable::run);
-        callbacks.clear();
+        scheduler.satisfy(type);
+        completeRegistry(type);
+        scheduler.runReady();
         completedRegistrations.add(type);
+        if (sealedEntries == null && !scheduler.hasPendingCallbacks() && isRegistrationComplete()) {
+            seal();
+        }
+    }
+
+    /**
+     * Called once the {@link RegistrateCoordinator} has walked every registry. Seals this registrate if every registry it has entries for has completed, even if callbacks are still waiting,
+     * e.g. on an entry which failed to register or a registry which does not exist. Those can never run anymore, and are dropped by {@link #seal()}.
+     */
+    void onRegistriesWalked() {
+        if (sealedEntries == null && isRegistrationComplete()) {
+            seal();
+        }
+    }
+
+    private boolean isRegistrationComplete() {
+        for (Entry<ResourceKey<? extends Registry<?>>, Map<String, Registration<?, ?>>> e : registrations.entrySet()) {
+            if (!e.getValue().isEmpty() && !completedRegistrations.contains(e.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Release all registration bookkeeping (registrations, the builders and closures they capture, and callbacks), keeping only an immutable index of entries for {@link #get(String, ResourceKey)}
+     * and friends. Data generators are kept when running datagen.
+     */
+    private void seal() {
+        List<String> leftover = scheduler.cancelAll();
+        if (!leftover.isEmpty()) {
+            metrics.recordUnusedCallbacks(leftover.size());
+            log.warn(DebugMarkers.REGISTER, "Dropped {} register callback(s) for {} which can never run: {}", leftover.size(), modid, String.join(", ", leftover));
+        }
+        ImmutableMap.Builder<ResourceKey<? extends Registry<?>>, Map<String, RegistryEntry<?>>> index = ImmutableMap.builder();
+        int entries = 0;
+        for (Entry<ResourceKey<? extends Registry<?>>, Map<String, Registration<?, ?>>> e : registrations.entrySet()) {
+            if (e.getValue().isEmpty()) {
+                continue;
+            }
+            ImmutableMap.Builder<String, RegistryEntry<?>> entriesForType = ImmutableMap.builderWithExpectedSize(e.getValue().size());
+            e.getValue().forEach((name, reg) -> entriesForType.put(name, reg.getDelegate()));
+            index.put(e.getKey(), entriesForType.build());
+            entries += e.getValue().size();
+        }
+        int callbacks = scheduler.getBatches();
+        int completed = completedRegistrations.size();
+        int generators;
+        synchronized (datagens) {
+            generators = datagens.size();
+        }
+        Map<ResourceKey<? extends Registry<?>>, Map<String, RegistryEntry<?>>> sealed = index.build();
+        sealedEntries = sealed;
+
+        registrations.clear();
+        scheduler.release();
+        completedRegistrations.clear();
+        // Sealed registrates report every registry as registered
+        registryCompletion.values().forEach(f -> f.complete(null));
+        registryCompletion.clear();
+        if (!doDatagen.get()) {
+            synchronized (datagens) {
+                datagens.clear();
+                datagensByEntry.clear();
+                generatorOwners.clear();
+            }
+        }
+        log.info(DebugMarkers.REGISTER, "Sealed registrate for {}. Before: {} registrations (with builders and factories), callbacks run in {} batches, {} completed registries, {} data generators. "
+                + "After: {} entries across {} registries, {} data generators.", modid, entries, callbacks, completed, generators,
+                entries, sealed.size(), doDatagen.get() ? generators : 0);
+        if (log.isDebugEnabled(DebugMarkers.REGISTER)) {
+            scheduler.getSlowest().forEach(s -> log.debug(DebugMarkers.REGISTER, "Slow register callback: {}", s));
+            scheduler.getLongestChains().forEach(s -> log.debug(DebugMarkers.REGISTER, "Long register callback chain: {}", s));
+        }
+    }
+
+    /**
+     * @return {@code true} if all registration has completed, and this {@link AbstractRegistrate} has released its registration bookkeeping. No further entries or callbacks can be added.
+     */
+    public boolean isSealed() {
+        return sealedEntries != null;
+    }
+
+    private void checkNotSealed() {
+        if (sealedEntries != null) {
+            throw new IllegalStateException("Registrate for " + modid + " has completed registration, no further entries or callbacks can be added");
+        }
+    }
+
+    Map<String, Integer> getEntryCounts() {
+        Map<String, Integer> ret = new TreeMap<>();
+        Map<ResourceKey<? extends Registry<?>>, Map<String, RegistryEntry<?>>> sealed = sealedEntries;
+        if (sealed != null) {
+            sealed.forEach((type, entries) -> ret.put(type.location().toString(), entries.size()));
+            return ret;
+        }
+        registrations.forEach((type, bucket) -> {
+            synchronized (bucket) {
+                ret.put(type.location().toString(), bucket.size());
+            }
+        });
+        return ret;
+    }
+
+    int getPendingRegisterCallbackCount() {
+        return scheduler.getPendingEntryCallbacks();
+    }
+
+    int getPendingAfterRegisterCallbackCount() {
+        return scheduler.getPendingRegistryCallbacks();
+    }
+
+    List<String> getSlowestCallbacks() {
+        return scheduler.getSlowest();
+    }
+
+    List<String> getLongestCallbackChains() {
+        return scheduler.getLongestChains();
     }
 
     @Nullable
@@ -234,10 +548,10 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * 
      * @return The current entry name
      * @throws NullPointerException
-     *             if {@link #currentName} is null
+     *             if the current name is null
      */
     protected String currentName() {
-        String name = currentName;
+        String name = state().currentName;
         Objects.requireNonNull(name, "Current name not set");
         return name;
     }
@@ -302,51 +616,170 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      *             if no such registration has been done
      */
     public <R, T extends R> RegistryEntry<T> get(String name, ResourceKey<? extends Registry<R>> type) {
-        return this.<R, T>getRegistration(name, type).getDelegate();
+        RegistryEntry<T> entry = this.<R, T>getEntryUnchecked(name, type);
+        if (entry != null) {
+            return entry;
+        }
+        throw new IllegalArgumentException("Unknown registration " + name + " for type " + type);
     }
 
     @Beta
     public <R, T extends R> RegistryEntry<T> getOptional(String name, ResourceKey<? extends Registry<R>> type) {
-        Registration<R, T> reg = this.<R, T>getRegistrationUnchecked(name, type);
-        return reg == null ? RegistryEntry.empty() : reg.getDelegate();
+        RegistryEntry<T> entry = this.<R, T>getEntryUnchecked(name, type);
+        return entry == null ? RegistryEntry.empty() : entry;
     }
 
     @SuppressWarnings("unchecked")
     @Nullable
-    private <R, T extends R> Registration<R, T> getRegistrationUnchecked(String name, ResourceKey<? extends Registry<R>> type) {
-        return (Registration<R, T>) registrations.get(name, type);
-    }
-    
-    private <R, T extends R> Registration<R, T> getRegistration(String name, ResourceKey<? extends Registry<R>> type) {
-        Registration<R, T> reg = this.<R, T>getRegistrationUnchecked(name, type);
-        if (reg != null) {
-            return reg;
+    private <R, T extends R> RegistryEntry<T> getEntryUnchecked(String name, ResourceKey<? extends Registry<R>> type) {
+        Map<ResourceKey<? extends Registry<?>>, Map<String, RegistryEntry<?>>> sealed = sealedEntries;
+        if (sealed != null) {
+            Map<String, RegistryEntry<?>> entriesForType = sealed.get(type);
+            return entriesForType == null ? null : (RegistryEntry<T>) entriesForType.get(name);
         }
-        throw new IllegalArgumentException("Unknown registration " + name + " for type " + type);
+        Map<String, Registration<?, ?>> registrationsForType = registrations.get(type);
+        Registration<?, ?> reg = registrationsForType == null ? null : registrationsForType.get(name);
+        return reg == null ? null : (RegistryEntry<T>) reg.getDelegate();
+    }
+
+    /**
+     * Get the links between all entries of the given name, across registries. The returned links are shared, and will include entries declared later.
+     *
+     * @param name
+     *            The name of the entries
+     * @return The {@link SiblingLinks} for the name
+     */
+    public SiblingLinks getSiblingLinks(String name) {
+        return siblings.computeIfAbsent(name, k -> new SiblingLinks());
     }
 
+    /**
+     * Get all entries registered to the given registry type, in the order they were created.
+     * <p>
+     * The returned collection is an unmodifiable view, which is free to create and will not reflect entries added to previously empty registries.
+     *
+     * @param <R>
+     *            The type of the registry
+     * @param type
+     *            A {@link ResourceKey} representing the registry type
+     * @return A view of all entries of the given type
+     */
     @SuppressWarnings({ "null", "unchecked" })
     public <R> Collection<RegistryEntry<R>> getAll(ResourceKey<? extends Registry<R>> type) {
-        return registrations.column(type).values().stream().map(r -> (RegistryEntry<R>) r.getDelegate()).collect(Collectors.toList());
+        Map<ResourceKey<? extends Registry<?>>, Map<String, RegistryEntry<?>>> sealed = sealedEntries;
+        if (sealed != null) {
+            Map<String, RegistryEntry<?>> entriesForType = sealed.get(type);
+            return entriesForType == null ? Collections.emptyList() : (Collection<RegistryEntry<R>>) (Collection<?>) entriesForType.values();
+        }
+        Map<String, Registration<?, ?>> registrationsForType = registrations.get(type);
+        if (registrationsForType == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(Collections2.transform(registrationsForType.values(), r -> (RegistryEntry<R>) r.getDelegate()));
     }
 
     public <R, T extends R> S addRegisterCallback(String name, ResourceKey<? extends Registry<R>> registryType, NonNullConsumer<? super T> callback) {
-        Registration<R, T> reg = this.<R, T>getRegistrationUnchecked(name, registryType);
-        if (reg == null) {
-            registerCallbacks.put(Pair.of(name, registryType), (NonNullConsumer<?>) callback);
-        } else {
-            reg.addRegisterCallback(callback);
-        }
+        return addRegisterCallback(name, registryType, 0, Collections.emptyList(), callback);
+    }
+
+    /**
+     * Add a callback to be run once the given entry is registered, and once every given registry has completed registration.
+     * <p>
+     * Callbacks that become ready at the same time are run together, with higher priorities first, then in the order they were added.
+     *
+     * @param <R>
+     *            Registry type
+     * @param <T>
+     *            Entry type
+     * @param name
+     *            The name of the entry
+     * @param registryType
+     *            The registry of the entry
+     * @param priority
+     *            The priority of the callback, relative to others that become ready at the same time
+     * @param dependencies
+     *            Registries which must complete registration before the callback is run
+     * @param callback
+     *            The callback, which receives the registered entry
+     * @return this {@link AbstractRegistrate}
+     */
+    public <R, T extends R> S addRegisterCallback(String name, ResourceKey<? extends Registry<R>> registryType, int priority,
+            Collection<? extends ResourceKey<? extends Registry<?>>> dependencies, NonNullConsumer<? super T> callback) {
+        checkNotSealed();
+        Preconditions.checkNotNull(callback, "Callback must not be null");
+        ResourceLocation id = new ResourceLocation(getModid(), name);
+        ResourceKey<?> entryKey = entryKey(registryType, id);
+        List<ResourceKey<?>> keys = new ArrayList<>(dependencies.size() + 1);
+        keys.add(entryKey);
+        keys.addAll(dependencies);
+        scheduler.schedule(registryType, id, keys, Collections.singleton(entryKey), priority, () -> callback.accept(this.<R, T>get(name, registryType).get()));
         return self();
     }
 
     public <R> S addRegisterCallback(ResourceKey<? extends Registry<R>> registryType, Runnable callback) {
-        afterRegisterCallbacks.put((ResourceKey<? extends Registry<?>>) registryType, callback);
+        return addRegisterCallback(registryType, 0, callback);
+    }
+
+    /**
+     * Add a callback to be run once the given registry has completed registration.
+     *
+     * @param registryType
+     *            The registry
+     * @param priority
+     *            The priority of the callback, relative to others that become ready at the same time
+     * @param callback
+     *            The callback
+     * @return this {@link AbstractRegistrate}
+     */
+    public <R> S addRegisterCallback(ResourceKey<? extends Registry<R>> registryType, int priority, Runnable callback) {
+        checkNotSealed();
+        scheduler.schedule(registryType, null, Collections.singleton(registryType), Collections.emptyList(), priority, callback);
         return self();
     }
 
     public <R> boolean isRegistered(ResourceKey<? extends Registry<R>> registryType) {
-        return completedRegistrations.contains(registryType);
+        return sealedEntries != null || completedRegistrations.contains(registryType);
+    }
+
+    /**
+     * Get a stage which completes once this registrate has completed registration of the given registry, or immediately if it already has. The stage is completed from the registration loop,
+     * before any after-register callbacks of the registry are run.
+     *
+     * @param registryType
+     *            The registry
+     * @return A {@link CompletionStage} which completes with no value
+     */
+    public CompletionStage<Void> whenRegistryComplete(ResourceKey<? extends Registry<?>> registryType) {
+        if (sealedEntries != null) {
+            return CompletableFuture.completedStage(null);
+        }
+        CompletableFuture<Void> future = registryCompletion.computeIfAbsent(registryType, k -> new CompletableFuture<>());
+        // Completion removes the future after satisfying the registry, so one of the two always sees the other
+        if (sealedEntries != null || scheduler.isSatisfied(registryType)) {
+            future.complete(null);
+        }
+        return future.minimalCompletionStage();
+    }
+
+    private void completeRegistry(ResourceKey<?> type) {
+        CompletableFuture<Void> future = registryCompletion.remove(type);
+        if (future != null) {
+            future.complete(null);
+        }
+    }
+
+    /**
+     * Look up every entry of the given registry type again, e.g. after the registry has been remapped or its contents replaced. Entries are normally bound once, directly to the registered
+     * instance, and never looked up by ID.
+     *
+     * @param registryType
+     *            The registry to rebind entries from
+     */
+    public <R> void rebind(ResourceKey<? extends Registry<R>> registryType) {
+        Registry<R> registry = RegistryUtil.getRegistry(registryType);
+        for (RegistryEntry<R> entry : getAll(registryType)) {
+            entry.updateReference(registry);
+        }
     }
 
     /**
@@ -356,7 +789,8 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      *            The type of the provider
      * @param type
      *            A {@link ProviderType} representing the desired provider
-     * @return An {@link Optional} holding the provider, or empty if this provider was not registered. This can happen if datagen is run only for client or server providers.
+     * @return An {@link Optional} holding the provider, or empty if this provider was not registered. This can happen if datagen is run only for client or server providers. Providers are only
+     *         created up front for types with data generators, others are created by this lookup.
      * @throws IllegalStateException
      *             if datagen has not started yet
      */
@@ -406,12 +840,43 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     public <P extends RegistrateProvider, R> S setDataGenerator(String entry, ResourceKey<? extends Registry<R>> registryType, ProviderType<P> type, NonNullConsumer<? extends P> cons) {
         if (!doDatagen.get()) return self();
-        @SuppressWarnings("null")
-        Consumer<? extends RegistrateProvider> existing = datagensByEntry.put(Pair.of(entry, registryType), type, cons);
-        if (existing != null) {
-            datagens.remove(type, existing);
+        synchronized (datagens) {
+            @SuppressWarnings("null")
+            Consumer<? extends RegistrateProvider> existing = datagensByEntry.computeIfAbsent(registryType, k -> HashBasedTable.create()).put(entry, type, cons);
+            if (existing != null) {
+                datagens.remove(type, existing);
+                serialGenerators.remove(existing);
+                generatorOwners.remove(existing);
+            }
+            generatorOwners.put(cons, new GeneratorOwner(entry, registryType, type));
+            return addDataGenerator(type, cons);
+        }
+    }
+
+    /**
+     * Like {@link #setDataGenerator(String, ResourceKey, ProviderType, NonNullConsumer)}, but the generator is never run concurrently with other generators of its type, even when
+     * {@link #parallelDatagen(boolean) parallel datagen} is enabled.
+     */
+    public <P extends RegistrateProvider, R> S setSerialDataGenerator(String entry, ResourceKey<? extends Registry<R>> registryType, ProviderType<P> type, NonNullConsumer<? extends P> cons) {
+        if (!doDatagen.get()) return self();
+        synchronized (datagens) {
+            setDataGenerator(entry, registryType, type, cons);
+            serialGenerators.add(cons);
         }
-        return addDataGenerator(type, cons);
+        return self();
+    }
+
+    /**
+     * Like {@link #addDataGenerator(ProviderType, NonNullConsumer)}, but the generator is never run concurrently with other generators of its type, even when
+     * {@link #parallelDatagen(boolean) parallel datagen} is enabled.
+     */
+    public <T extends RegistrateProvider> S addSerialDataGenerator(ProviderType<? extends T> type, NonNullConsumer<? extends T> cons) {
+        if (!doDatagen.get()) return self();
+        synchronized (datagens) {
+            addDataGenerator(type, cons);
+            serialGenerators.add(cons);
+        }
+        return self();
     }
     
     /**
@@ -429,14 +894,23 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      */
     public <T extends RegistrateProvider> S addDataGenerator(ProviderType<? extends T> type, NonNullConsumer<? extends T> cons) {
         if (doDatagen.get()) {
-            datagens.put(type, cons);
+            synchronized (datagens) {
+                datagens.put(type, cons);
+            }
         }
         return self();
     }
     
-    private final NonNullSupplier<List<Pair<String, String>>> extraLang = NonNullSupplier.lazy(() -> {
-        final List<Pair<String, String>> ret = new ArrayList<>();
-        addDataGenerator(ProviderType.LANG, prov -> ret.forEach(p -> prov.add(p.getKey(), p.getValue())));
+    private final Supplier<List<Pair<String, String>>> extraLang = Suppliers.memoize(() -> {
+        final List<Pair<String, String>> ret = Collections.synchronizedList(new ArrayList<>());
+        addDataGenerator(ProviderType.LANG, prov -> {
+            // Copied under its lock, as entries may still be added while the lang provider runs
+            List<Pair<String, String>> entries;
+            synchronized (ret) {
+                entries = new ArrayList<>(ret);
+            }
+            entries.forEach(p -> prov.add(p.getKey(), p.getValue()));
+        });
         return ret;
     });
 
@@ -488,16 +962,137 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return Component.translatable(key);
     }
     
-    @SuppressWarnings("null")
-    private Optional<Pair<String, ResourceKey<? extends Registry<?>>>> getEntryForGenerator(ProviderType<?> type, NonNullConsumer<? extends RegistrateProvider> generator) {
-        for (Map.Entry<Pair<String, ResourceKey<? extends Registry<?>>>, Consumer<? extends RegistrateProvider>> e : datagensByEntry.column(type).entrySet()) {
-            if (e.getValue() == generator) {
-                return Optional.of(e.getKey());
+    private static final Comparator<GeneratorOwner> OWNER_ORDER = Comparator.<GeneratorOwner, ResourceLocation> comparing(o -> o.registry().location()).thenComparing(GeneratorOwner::entry);
+
+    /**
+     * Copy the generators of a type, in the order they run. Guarded by {@link #datagens}.
+     * <p>
+     * In {@linkplain #concurrentDeclaration() concurrent declaration} mode, the order generators were added in depends on thread scheduling, so the generators of entries are ordered by registry
+     * and entry name instead, followed by unassociated generators in the order they were added. Providers such as tags write their contents in generator order.
+     */
+    private List<@NonnullType NonNullConsumer<? extends RegistrateProvider>> getOrderedGenerators(ProviderType<?> type) {
+        List<@NonnullType NonNullConsumer<? extends RegistrateProvider>> ret = new ArrayList<>(datagens.get(type));
+        if (threadState != null) {
+            ret.sort(Comparator.<NonNullConsumer<? extends RegistrateProvider>, GeneratorOwner> comparing(generator -> {
+                GeneratorOwner owner = generatorOwners.get(generator);
+                return owner == null || owner.type() != type ? null : owner;
+            }, Comparator.nullsLast(OWNER_ORDER)));
+        }
+        return ret;
+    }
+
+    private Optional<Pair<String, ResourceKey<? extends Registry<?>>>> findEntryForGenerator(ProviderType<?> type, NonNullConsumer<? extends RegistrateProvider> generator) {
+        return findEntryForGenerator(generatorOwners, type, generator);
+    }
+
+    private static Optional<Pair<String, ResourceKey<? extends Registry<?>>>> findEntryForGenerator(Map<Consumer<? extends RegistrateProvider>, GeneratorOwner> owners, ProviderType<?> type,
+            NonNullConsumer<? extends RegistrateProvider> generator) {
+        GeneratorOwner owner = owners.get(generator);
+        if (owner == null || owner.type() != type) {
+            return Optional.empty();
+        }
+        return Optional.of(Pair.of(owner.entry(), owner.registry()));
+    }
+
+    /**
+     * The key of each generator of a type, in the order they run: {@code <registry>/<entry>} for the generator of an entry, and {@code #<n>} for the n-th unassociated generator. Guarded by
+     * {@link #datagens}.
+     */
+    private List<String> getGeneratorKeys(ProviderType<?> type, List<@NonnullType NonNullConsumer<? extends RegistrateProvider>> generators) {
+        List<String> ret = new ArrayList<>(generators.size());
+        int unassociated = 0;
+        for (NonNullConsumer<? extends RegistrateProvider> generator : generators) {
+            GeneratorOwner owner = generatorOwners.get(generator);
+            ret.add(owner == null || owner.type() != type ? "#" + unassociated++ : owner.registry().location() + "/" + owner.entry());
+        }
+        return ret;
+    }
+
+    /**
+     * For internal use, fingerprints the inputs of each data generator of a type, keyed by the entry it belongs to: the code and captured values of the generator, see
+     * {@link GeneratorFingerprint}. Captured builders are covered by a snapshot of their configuration, such as their tags. Used by incremental datagen to skip generators whose inputs have not
+     * changed since the last run.
+     * <p>
+     * Generators of entries are keyed by {@code <registry>/<entry>}, unassociated generators by {@code #<n>} in the order they were added. For {@link ProviderType#LANG}, the configured
+     * {@linkplain #pseudoLocales(PseudoLocale...) pseudo-locales} are covered too, by their code and fields, under the key {@code pseudo_locales}.
+     * 
+     * @param type
+     *            The type of provider
+     * @return Hex fingerprints by generator key, in the order generators run. A fingerprint is equal across runs as long as its generator is unchanged, or {@code null} if the generator holds
+     *         state which cannot be fingerprinted, so it must always run.
+     */
+    public Map<String, String> getDataFingerprints(ProviderType<?> type) {
+        Map<String, String> ret = new LinkedHashMap<>();
+        synchronized (datagens) {
+            List<@NonnullType NonNullConsumer<? extends RegistrateProvider>> generators = getOrderedGenerators(type);
+            List<String> keys = getGeneratorKeys(type, generators);
+            for (int i = 0; i < generators.size(); i++) {
+                NonNullConsumer<? extends RegistrateProvider> generator = generators.get(i);
+                Hasher hasher = Hashing.sha1().newHasher();
+                hasher.putBoolean(serialGenerators.contains(generator));
+                if (GeneratorFingerprint.hash(generator, hasher)) {
+                    ret.put(keys.get(i), hasher.hash().toString());
+                } else {
+                    log.debug(DebugMarkers.DATA, "Generator {} ({}) for type {} cannot be fingerprinted, it will always run", keys.get(i), generator.getClass().getName(),
+                            RegistrateDataProvider.getTypeName(type));
+                    ret.put(keys.get(i), null);
+                }
+            }
+        }
+        if (type == ProviderType.LANG && !pseudoLocales.isEmpty()) {
+            Hasher hasher = Hashing.sha1().newHasher();
+            boolean complete = true;
+            for (PseudoLocale locale : pseudoLocales) {
+                hasher.putString(locale.getLocale(), StandardCharsets.UTF_8);
+                if (!GeneratorFingerprint.hashObject(locale, hasher)) {
+                    log.debug(DebugMarkers.DATA, "Pseudo-locale {} ({}) cannot be fingerprinted, lang will always run", locale.getLocale(), locale.getClass().getName());
+                    complete = false;
+                }
             }
+            ret.put("pseudo_locales", complete ? hasher.hash().toString() : null);
+        }
+        return ret;
+    }
+
+    /**
+     * For internal use, skip some generators of a type the next time its provider runs, as incremental datagen reuses their previous outputs instead.
+     * 
+     * @param type
+     *            The type of provider
+     * @param keys
+     *            The {@linkplain #getDataFingerprints(ProviderType) keys} of the generators to skip, empty to run all of them
+     */
+    public void skipDataGenerators(ProviderType<?> type, Set<String> keys) {
+        if (keys.isEmpty()) {
+            skippedGenerators.remove(type);
+        } else {
+            skippedGenerators.put(type, ImmutableSet.copyOf(keys));
         }
-        return Optional.empty();
     }
     
+    /**
+     * For internal use, whether any data generators of a type have been added, so its provider must be created.
+     * 
+     * @param type
+     *            The type of provider
+     * @return If there are generators of this type
+     */
+    public boolean hasDataGenerators(ProviderType<?> type) {
+        synchronized (datagens) {
+            return datagens.containsKey(type);
+        }
+    }
+
+    /**
+     * For internal use, the profiler of data generation, if enabled via {@code -Dregistrate.datagen.profile}.
+     * 
+     * @return The profiler, or null if profiling is disabled
+     */
+    @Nullable
+    public DatagenProfiler getDatagenProfiler() {
+        return datagenProfiler;
+    }
+
     /**
      * For internal use, calls upon registered data generators to actually create their data.
      * 
@@ -508,38 +1103,177 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * @param gen
      *            The provider
      */
-    @SuppressWarnings("unchecked")
     public <T extends RegistrateProvider> void genData(ProviderType<? extends T> type, T gen) {
         if (!doDatagen.get()) return;
-        datagens.get(type).forEach(cons -> {
-            Optional<Pair<String, ResourceKey<? extends Registry<?>>>> entry = null;
-            if (log.isEnabled(Level.DEBUG, DebugMarkers.DATA)) {
-                entry = getEntryForGenerator(type, cons);
-                if (entry.isPresent()) {
-                    log.debug(DebugMarkers.DATA, "Generating data of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.get().getLeft(), entry.get().getRight().location());
-                } else {
-                    log.debug(DebugMarkers.DATA, "Generating unassociated data of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
+        try {
+            runGenerators(type, gen);
+        } catch (RuntimeException | Error e) {
+            dumpTrace("Data generation of type " + RegistrateDataProvider.getTypeName(type) + " failed");
+            throw e;
+        }
+    }
+
+    private <T extends RegistrateProvider> void runGenerators(ProviderType<? extends T> type, T gen) {
+        // Snapshot, as providers of other types may run concurrently and add generators (e.g. extra lang)
+        List<@NonnullType NonNullConsumer<? extends RegistrateProvider>> generators;
+        boolean[] serial;
+        // Read without locking while generators run, so parallel generators never contend on datagens
+        Map<Consumer<? extends RegistrateProvider>, GeneratorOwner> owners = new IdentityHashMap<>();
+        List<String> keys;
+        Set<String> skipped = skippedGenerators.getOrDefault(type, Collections.emptySet());
+        synchronized (datagens) {
+            generators = getOrderedGenerators(type);
+            keys = getGeneratorKeys(type, generators);
+            for (int i = generators.size() - 1; i >= 0; i--) {
+                if (skipped.contains(keys.get(i)) || !RegistrateDataProvider.isEntrySelected(findEntryForGenerator(type, generators.get(i)).map(Pair::getLeft).orElse(null))) {
+                    generators.remove(i);
+                    keys.remove(i);
                 }
             }
-            try {
-                ((Consumer<T>) cons).accept(gen);
-            } catch (Exception e) {
-                if (entry == null) {
-                    entry = getEntryForGenerator(type, cons);
-                }
-                Message err;
-                if (entry.isPresent()) {
-                    err = log.getMessageFactory().newMessage("Unexpected error while running data generator of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.get().getLeft(), entry.get().getRight().location());
-                } else {
-                    err = log.getMessageFactory().newMessage("Unexpected error while running unassociated data generator of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
-                }
-                if (skipErrors) {
-                    log.error(err);
-                } else {
-                    throw new RuntimeException(err.getFormattedMessage(), e);
+            serial = new boolean[generators.size()];
+            for (int i = 0; i < serial.length; i++) {
+                NonNullConsumer<? extends RegistrateProvider> generator = generators.get(i);
+                serial[i] = serialGenerators.contains(generator);
+                GeneratorOwner owner = generatorOwners.get(generator);
+                if (owner != null) {
+                    owners.put(generator, owner);
                 }
             }
-        });
+        }
+        owners = Collections.unmodifiableMap(owners);
+        DatagenRunEvent runEvent = new DatagenRunEvent();
+        runEvent.begin();
+        if (parallelDatagen && gen.isParallelSafe() && generators.size() > 1) {
+            runGeneratorsParallel(type, gen, generators, keys, serial, owners);
+        } else {
+            for (int i = 0; i < generators.size(); i++) {
+                runGenerator(type, gen, generators.get(i), keys.get(i), owners, i);
+            }
+        }
+        if (runEvent.shouldCommit()) {
+            runEvent.modid = modid;
+            runEvent.providerType = RegistrateDataProvider.getTypeName(type);
+            runEvent.generators = generators.size();
+            runEvent.commit();
+        }
+    }
+
+    private <T extends RegistrateProvider> void runGeneratorsParallel(ProviderType<? extends T> type, T gen, List<NonNullConsumer<? extends RegistrateProvider>> generators, List<String> keys,
+            boolean[] serial, Map<Consumer<? extends RegistrateProvider>, GeneratorOwner> owners) {
+        Throwable[] errors = new Throwable[generators.size()];
+        ForkJoinPool.commonPool().submit(() -> IntStream.range(0, generators.size()).parallel()
+                .filter(i -> !serial[i])
+                .forEach(i -> runGenerator(type, gen, generators, keys, owners, errors, i)))
+                .join();
+        // Only once every parallel generator has finished, so none of them overlaps a serial one
+        for (int i = 0; i < generators.size(); i++) {
+            if (serial[i]) {
+                runGenerator(type, gen, generators, keys, owners, errors, i);
+            }
+        }
+        // Throw the error a serial run would have thrown
+        for (Throwable error : errors) {
+            if (error instanceof RuntimeException e) {
+                throw e;
+            } else if (error instanceof Error e) {
+                throw e;
+            }
+        }
+    }
+
+    private <T extends RegistrateProvider> void runGenerator(ProviderType<? extends T> type, T gen, List<NonNullConsumer<? extends RegistrateProvider>> generators, List<String> keys,
+            Map<Consumer<? extends RegistrateProvider>, GeneratorOwner> owners, Throwable[] errors, int index) {
+        try {
+            runGenerator(type, gen, generators.get(index), keys.get(index), owners, index);
+        } catch (RuntimeException | Error e) {
+            errors[index] = e;
+        }
+    }
+
+    private static final class RunningGenerator {
+        int index = -1;
+        @Nullable
+        String key;
+    }
+
+    /** The data generator running on each thread */
+    private static final ThreadLocal<RunningGenerator> RUNNING_GENERATOR = ThreadLocal.withInitial(RunningGenerator::new);
+
+    /**
+     * @return The index of the data generator running on the current thread, in the order generators of its type would run serially, or -1 if no generator is running. Used by providers which
+     *         accept concurrent generators to resolve conflicts the same way a serial run would.
+     */
+    public static int getGeneratorIndex() {
+        return RUNNING_GENERATOR.get().index;
+    }
+
+    /**
+     * @return The {@linkplain #getDataFingerprints(ProviderType) key} of the data generator running on the current thread, or null if no generator is running. Used by incremental datagen to
+     *         attribute files written while a generator runs to that generator.
+     */
+    public static @Nullable String getGeneratorKey() {
+        return RUNNING_GENERATOR.get().key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends RegistrateProvider> void runGenerator(ProviderType<? extends T> type, T gen, NonNullConsumer<? extends RegistrateProvider> cons, String key,
+            Map<Consumer<? extends RegistrateProvider>, GeneratorOwner> owners, int index) {
+        DatagenGeneratorEvent event = new DatagenGeneratorEvent();
+        event.begin();
+        Optional<Pair<String, ResourceKey<? extends Registry<?>>>> entry = null;
+        if (log.isEnabled(Level.DEBUG, DebugMarkers.DATA)) {
+            entry = findEntryForGenerator(owners, type, cons);
+            if (entry.isPresent()) {
+                log.debug(DebugMarkers.DATA, "Generating data of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.get().getLeft(), entry.get().getRight().location());
+            } else {
+                log.debug(DebugMarkers.DATA, "Generating unassociated data of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
+            }
+        }
+        RunningGenerator current = RUNNING_GENERATOR.get();
+        current.index = index;
+        current.key = key;
+        // Recorded first, so a failing generator is the last event in the trace
+        TraceRecorder.record(TraceRecorder.Kind.GENERATOR, modid, type, null);
+        long start = System.nanoTime();
+        try {
+            ((Consumer<T>) cons).accept(gen);
+        } catch (Exception e) {
+            if (entry == null) {
+                entry = findEntryForGenerator(owners, type, cons);
+            }
+            Message err;
+            if (entry.isPresent()) {
+                err = log.getMessageFactory().newMessage("Unexpected error while running data generator of type {} for entry {} [{}]", RegistrateDataProvider.getTypeName(type), entry.get().getLeft(), entry.get().getRight().location());
+            } else {
+                err = log.getMessageFactory().newMessage("Unexpected error while running unassociated data generator of type {} ({})", RegistrateDataProvider.getTypeName(type), type);
+            }
+            if (skipErrors) {
+                log.error(err);
+            } else {
+                throw new RuntimeException(err.getFormattedMessage(), e);
+            }
+        } finally {
+            current.index = -1;
+            current.key = null;
+        }
+        if (datagenProfiler != null) {
+            if (entry == null) {
+                entry = findEntryForGenerator(owners, type, cons);
+            }
+            datagenProfiler.recordGenerator(type, entry.map(Pair::getLeft).orElse(null), entry.map(Pair::getRight).orElse(null), index, System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            if (entry == null) {
+                entry = findEntryForGenerator(owners, type, cons);
+            }
+            event.modid = modid;
+            event.providerType = RegistrateDataProvider.getTypeName(type);
+            if (entry.isPresent()) {
+                event.registry = entry.get().getRight().location().toString();
+                event.entry = new ResourceLocation(modid, entry.get().getLeft()).toString();
+            }
+            event.commit();
+        }
     }
 
     /**
@@ -560,6 +1294,59 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return self();
     }
     
+    /**
+     * Enable parallel construction of registry entries. When enabled, the entries of each registry are first constructed concurrently on the {@link ForkJoinPool#commonPool() common pool}, and
+     * then registered serially, one at a time in declaration order. Each entry's register callbacks run right after it is registered, in priority order, before the next entry is registered, just
+     * as without parallel construction.
+     * <p>
+     * Entry factories must not depend on other entries of the same registry, or on side effects of their register callbacks, as those are not registered until every entry of the registry has been
+     * constructed. Builders whose factories must run on the registering thread, or depend on entries declared before them, can opt out via {@link AbstractBuilder#mainThreadOnly()}.
+     * 
+     * @param parallelConstruction
+     *            {@code true} to construct entries in parallel
+     * @return this {@link AbstractRegistrate}
+     */
+    public S parallelConstruction(boolean parallelConstruction) {
+        this.parallelConstruction = parallelConstruction;
+        return self();
+    }
+
+    /**
+     * Enable parallel data generation. When enabled, the generators of each provider which is {@linkplain RegistrateProvider#isParallelSafe() parallel-safe} run concurrently on the
+     * {@link ForkJoinPool#commonPool() common pool}, and the provider produces the same output as a serial run. Built in, recipes and lang are parallel-safe.
+     * <p>
+     * Generators which touch shared state can opt out via {@link #addSerialDataGenerator(ProviderType, NonNullConsumer)} or {@link Builder#setSerialData(ProviderType, NonNullBiConsumer)}, and
+     * run on the provider's thread instead.
+     * 
+     * @param parallelDatagen
+     *            {@code true} to run generators in parallel
+     * @return this {@link AbstractRegistrate}
+     */
+    public S parallelDatagen(boolean parallelDatagen) {
+        this.parallelDatagen = parallelDatagen;
+        return self();
+    }
+
+    /**
+     * Set the pseudo-locales generated from the English translations, by default only {@link PseudoLocale#UPSIDE_DOWN en_ud}. Each is written to its own lang file, and all are generated
+     * concurrently once the English translations are complete.
+     * 
+     * @param locales
+     *            The pseudo-locales to generate, none to only generate {@code en_us}
+     * @return this {@link AbstractRegistrate}
+     */
+    public S pseudoLocales(PseudoLocale... locales) {
+        this.pseudoLocales = ImmutableList.copyOf(locales);
+        return self();
+    }
+
+    /**
+     * @return The pseudo-locales to generate, see {@link #pseudoLocales(PseudoLocale...)}
+     */
+    public List<PseudoLocale> getPseudoLocales() {
+        return pseudoLocales;
+    }
+    
     /**
      * Begin a new object, this is typically used at the beginning of a builder chain. The given name will be used until this method is called again. This makes it simple to create multiple entries
      * with the same name, as is often the case with blocks/items, items/entities, and blocks/TEs.
@@ -569,10 +1356,46 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * @return this {@link AbstractRegistrate}
      */
     public S object(String name) {
-        this.currentName = name;
+        state().currentName = name;
+        return self();
+    }
+
+    /**
+     * Allow entries to be declared from several threads at once. Must be called before any entries are declared.
+     * <p>
+     * The current name and creative mode tab (see {@link #object(String)} and {@link #creativeModeTab(NonNullSupplier)}) become per-thread state, and start out unset on every thread. Registrations
+     * and data generators are stored in concurrent structures.
+     * <p>
+     * As declarations from different threads interleave unpredictably, the entries of each registry are registered in order of their names rather than in declaration order, so that registry IDs stay
+     * stable between runs. Entry factories must therefore not rely on other entries of the same registry being registered before them. For the same reason, the data generators of entries run
+     * ordered by registry and entry name, and register callbacks which become ready together run ordered by priority, registry and entry name. Generators and callbacks not associated with an
+     * entry keep the order they were added in, so should be added from a single thread.
+     * 
+     * @return this {@link AbstractRegistrate}
+     * @throws IllegalStateException
+     *             if entries have already been declared
+     */
+    public synchronized S concurrentDeclaration() {
+        if (threadState == null) {
+            if (!registrations.isEmpty()) {
+                throw new IllegalStateException("Cannot enable concurrent declaration after entries have been declared");
+            }
+            threadState = ThreadLocal.withInitial(DeclarationState::new);
+            scheduler.orderByEntry();
+        }
         return self();
     }
 
+    private DeclarationState state() {
+        ThreadLocal<DeclarationState> threadState = this.threadState;
+        return threadState == null ? sharedState : threadState.get();
+    }
+
+    /** Synchronized with {@link #concurrentDeclaration()}, so a bucket created while it is enabled is of the new kind */
+    private synchronized Map<String, Registration<?, ?>> newRegistrationBucket() {
+        return threadState == null ? new LinkedHashMap<>() : new ConcurrentSkipListMap<>();
+    }
+
     /**
      * Set the default creative mode tab for all future items created with this Registrate, until the next time this method is called. The supplier will only be called once, and the value re-used for each
      * entry.
@@ -582,7 +1405,7 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
      * @return this {@link AbstractRegistrate}
      */
     public S creativeModeTab(NonNullSupplier<? extends CreativeModeTab> tab) {
-        this.currentTab = Suppliers.memoize(tab::get);
+        state().currentTab = Suppliers.memoize(tab::get);
         return self();
     }
 
@@ -693,15 +1516,50 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
         return factory.apply(this::accept);
     }
 
-    protected <R, T extends R> RegistryEntry<T> accept(String name, ResourceKey<? extends Registry<R>> type, Builder<R, T, ?, ?> builder, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
-        Registration<R, T> reg = new Registration<>(new ResourceLocation(modid, name), type, creator, entryFactory);
+    /**
+     * Declare an entry directly, without a {@link Builder}. No data generators, callbacks or other extras are added; the entry is only constructed and registered.
+     * <p>
+     * This is the path used by code generated from {@link com.tterrag.registrate.annotations.RegistrateEntry @RegistrateEntry} declarations, which avoids allocating a builder and capturing
+     * lambdas for each entry.
+     * 
+     * @param <R>
+     *            The type of the registry
+     * @param <T>
+     *            The type of the entry
+     * @param name
+     *            The name of the entry
+     * @param type
+     *            A {@link ResourceKey} representing the registry type
+     * @param creator
+     *            A supplier which creates the entry, invoked at registration time
+     * @param entryFactory
+     *            A function which wraps the {@link RegistryObject} in a {@link RegistryEntry}
+     * @return The {@link RegistryEntry} which will supply the entry once registered
+     */
+    public <R, T extends R> RegistryEntry<T> declare(String name, ResourceKey<? extends Registry<R>> type, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
+        return accept(name, type, null, creator, entryFactory);
+    }
+
+    /**
+     * Declare an entry directly, without a {@link Builder}, wrapped in a plain {@link RegistryEntry}.
+     * 
+     * @see #declare(String, ResourceKey, NonNullSupplier, NonNullFunction)
+     */
+    public <R, T extends R> RegistryEntry<T> declare(String name, ResourceKey<? extends Registry<R>> type, NonNullSupplier<? extends T> creator) {
+        return declare(name, type, creator, delegate -> new RegistryEntry<>(this, delegate));
+    }
+
+    protected <R, T extends R> RegistryEntry<T> accept(String name, ResourceKey<? extends Registry<R>> type, @Nullable Builder<R, T, ?, ?> builder, NonNullSupplier<? extends T> creator, NonNullFunction<RegistryObject<T>, ? extends RegistryEntry<T>> entryFactory) {
+        checkNotSealed();
+        Registration<R, T> reg = new Registration<>(new ResourceLocation(modid, name), type, builder, creator, entryFactory);
         log.debug(DebugMarkers.REGISTER, "Captured registration for entry {} of type {}", name, type.location());
-        registerCallbacks.removeAll(Pair.of(name, type)).forEach(callback -> {
-            @SuppressWarnings({ "unchecked", "null" })
-            NonNullConsumer<? super T> unsafeCallback = (NonNullConsumer<? super T>) callback;
-            reg.addRegisterCallback(unsafeCallback);
-        });
-        registrations.put(name, type, reg);
+        TraceRecorder.record(TraceRecorder.Kind.CAPTURED, modid, type, reg.getName());
+        Map<String, Registration<?, ?>> registrationsForType = registrations.computeIfAbsent(type, k -> newRegistrationBucket());
+        synchronized (registrationsForType) {
+            registrationsForType.put(name, reg);
+        }
+        scheduler.declare(entryKey(type, reg.getName()));
+        getSiblingLinks(name).add(type, reg.getDelegate());
         return reg.getDelegate();
     }
 
@@ -785,7 +1643,7 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     
     public <T extends Item, P> ItemBuilder<T, P> item(P parent, String name, NonNullFunction<Item.Properties, T> factory) {
         // TODO clean this up when NonNullLazyValue is fixed better
-        Supplier<? extends @NonnullType CreativeModeTab> currentTab = this.currentTab;
+        Supplier<? extends @NonnullType CreativeModeTab> currentTab = state().currentTab;
         return entry(name, callback -> ItemBuilder.create(this, parent, name, callback, factory, currentTab == null ? null : currentTab::get));
     }
     
@@ -822,7 +1680,18 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     public <T extends Block, P> BlockBuilder<T, P> block(P parent, String name, Material material, NonNullFunction<BlockBehaviour.Properties, T> factory) {
         return entry(name, callback -> BlockBuilder.create(this, parent, name, callback, factory, material));
     }
-    
+
+    /**
+     * Create a family of blocks, one per variant, which share one template and one set of data generators. The current creative mode tab is captured for the items of the family, if any.
+     *
+     * @see VariantFamilyBuilder
+     */
+    public <V, T extends Block> VariantFamilyBuilder<V, T> family(Iterable<? extends V> variants, NonNullFunction<? super V, String> namer,
+            NonNullBiFunction<? super V, BlockBehaviour.Properties, ? extends T> factory, Material material) {
+        Supplier<? extends @NonnullType CreativeModeTab> currentTab = state().currentTab;
+        return VariantFamilyBuilder.create(this, variants, namer, factory, material, currentTab == null ? null : currentTab::get);
+    }
+
     // Entities
     
     public <T extends Entity> EntityBuilder<T, S> entity(EntityFactory<T> factory, MobCategory classification) {
@@ -964,4 +1833,15 @@ public abstract class AbstractRegistrate<S extends AbstractRegistrate<S>> {
     public <T extends Enchantment, P> EnchantmentBuilder<T, P> enchantment(P parent, String name, EnchantmentCategory type, EnchantmentFactory<T> factory) {
         return entry(name, callback -> EnchantmentBuilder.create(this, parent, name, callback, type, factory));
     }
+    
+    // Bulk
+    
+    /**
+     * Begin declaring blocks and items in bulk from data files. See {@link BulkRegistrar} for the spec format.
+     * 
+     * @return A new {@link BulkRegistrar} for this {@link AbstractRegistrate}
+     */
+    public BulkRegistrar bulk() {
+        return new BulkRegistrar(this);
+    }
 }
@@ -0,0 +1,356 @@
+package com.tterrag.registrate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.tterrag.registrate.util.TraceRecorder;
+import com.tterrag.registrate.util.jfr.RegisterCallbackEvent;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs register callbacks once their dependencies are satisfied. A dependency is either an entry key, satisfied when that entry is registered, or a registry key, satisfied when that registry has
+ * completed.
+ * <p>
+ * Callbacks that become ready together run one after another as a batch, ordered by priority (highest first) and then by the order they were added, so the order never depends on hashing.
+ * Registrates declaring entries concurrently order them by registry and entry name instead, see {@link #orderByEntry()}. Callbacks added while a batch is running form the next batch.
+ * <p>
+ * Ready callbacks are run right after each entry is registered, so the callbacks of an entry run before the next entry of its registry is registered, and those waiting on a registry once it
+ * completes.
+ * <p>
+ * Run times and dependency chains are kept for a report of the slowest callbacks and the longest chains.
+ */
+final class CallbackScheduler {
+
+    private static final int REPORT_SIZE = 5;
+
+    private static final Comparator<Task> ORDER = Comparator.<Task> comparingInt(t -> -t.priority).thenComparingLong(t -> t.sequence);
+    /** Independent of the order callbacks were added in, which depends on thread scheduling when entries are declared concurrently */
+    private static final Comparator<Task> ENTRY_ORDER = Comparator.<Task> comparingInt(t -> -t.priority)
+            .thenComparing(t -> t.registry.location())
+            .thenComparing(t -> t.entry, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(t -> t.sequence);
+
+    private static final class Task {
+        final ResourceKey<? extends Registry<?>> registry;
+        @Nullable
+        final ResourceLocation entry;
+        final int priority;
+        final long sequence;
+        /** Cleared once run, releasing whatever the callback captured */
+        @Nullable
+        Runnable action;
+        /** Dependencies in the order they were satisfied, for chain reports */
+        final List<ResourceKey<?>> chain;
+        int pending;
+        boolean cancelled;
+        long nanos;
+
+        Task(ResourceKey<? extends Registry<?>> registry, @Nullable ResourceLocation entry, int priority, long sequence, Runnable action, int dependencies) {
+            this.registry = registry;
+            this.entry = entry;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.action = action;
+            this.chain = new ArrayList<>(dependencies);
+        }
+
+        String describe() {
+            return entry == null ? "after " + registry.location() : entry + " [" + registry.location() + "]";
+        }
+    }
+
+    private final String modid;
+
+    private final Map<ResourceKey<?>, List<Task>> waiting = new HashMap<>();
+    private final Set<ResourceKey<?>> satisfied = new HashSet<>();
+    private final Set<ResourceKey<?>> declaredEntries = new HashSet<>();
+    /** Entry keys with waiting callbacks which have not been declared */
+    private final Set<ResourceKey<?>> undeclaredEntries = new HashSet<>();
+    private List<Task> ready = new ArrayList<>();
+    private final List<Task> finished = new ArrayList<>();
+    private long sequence;
+    private int pendingEntryCallbacks;
+    private int pendingRegistryCallbacks;
+    private int batches;
+    private Comparator<Task> order = ORDER;
+
+    CallbackScheduler(String modid) {
+        this.modid = modid;
+    }
+
+    /**
+     * Add a callback.
+     *
+     * @param registry
+     *            The registry the callback belongs to
+     * @param entry
+     *            The entry the callback belongs to, or null for callbacks run after a registry completes
+     * @param dependencies
+     *            Entry and registry keys which must be satisfied first
+     * @param entryKeys
+     *            Which of the dependencies are entry keys
+     * @param priority
+     *            Callbacks with higher priority run first within a batch
+     * @param action
+     *            The callback
+     */
+    synchronized void schedule(ResourceKey<? extends Registry<?>> registry, @Nullable ResourceLocation entry, Collection<? extends ResourceKey<?>> dependencies,
+            Collection<? extends ResourceKey<?>> entryKeys, int priority, Runnable action) {
+        Task task = new Task(registry, entry, priority, sequence++, action, dependencies.size());
+        for (ResourceKey<?> key : entryKeys) {
+            if (!declaredEntries.contains(key)) {
+                undeclaredEntries.add(key);
+            }
+        }
+        for (ResourceKey<?> dependency : dependencies) {
+            if (!satisfied.contains(dependency)) {
+                task.pending++;
+                waiting.computeIfAbsent(dependency, k -> new ArrayList<>()).add(task);
+            }
+        }
+        if (entry != null) {
+            pendingEntryCallbacks++;
+        } else {
+            pendingRegistryCallbacks++;
+        }
+        if (task.pending == 0) {
+            ready.add(task);
+        }
+    }
+
+    /**
+     * Order callbacks which become ready together by priority, then registry and entry name, rather than the order they were added in. Callbacks of the same entry, or not associated with an
+     * entry, still run in the order they were added.
+     */
+    synchronized void orderByEntry() {
+        order = ENTRY_ORDER;
+    }
+
+    /**
+     * Mark an entry as declared, so callbacks waiting for it are no longer reported as unused.
+     */
+    synchronized void declare(ResourceKey<?> entry) {
+        declaredEntries.add(entry);
+        undeclaredEntries.remove(entry);
+    }
+
+    /**
+     * Mark a dependency as satisfied. Callbacks that no longer wait on anything are queued for the next {@link #runReady()}.
+     */
+    synchronized void satisfy(ResourceKey<?> key) {
+        if (!satisfied.add(key)) {
+            return;
+        }
+        List<Task> tasks = waiting.remove(key);
+        if (tasks == null) {
+            return;
+        }
+        for (Task task : tasks) {
+            task.chain.add(key);
+            if (--task.pending == 0 && !task.cancelled) {
+                ready.add(task);
+            }
+        }
+    }
+
+    /**
+     * Mark several dependencies as satisfied at once.
+     *
+     * @see #satisfy(ResourceKey)
+     */
+    synchronized void satisfyAll(Collection<? extends ResourceKey<?>> keys) {
+        for (ResourceKey<?> key : keys) {
+            satisfy(key);
+        }
+    }
+
+    /**
+     * @return {@code true} if any callback is still waiting on the given key
+     */
+    synchronized boolean isWaitingOn(ResourceKey<?> key) {
+        return waiting.containsKey(key);
+    }
+
+    synchronized boolean isSatisfied(ResourceKey<?> key) {
+        return satisfied.contains(key);
+    }
+
+    /**
+     * Run all ready callbacks, batch by batch, until none are left. Must be called from one thread at a time.
+     */
+    void runReady() {
+        List<Task> batch;
+        while ((batch = takeBatch()) != null) {
+            for (Task task : batch) {
+                run(task);
+            }
+            synchronized (this) {
+                for (Task task : batch) {
+                    if (task.entry != null) {
+                        pendingEntryCallbacks--;
+                    } else {
+                        pendingRegistryCallbacks--;
+                    }
+                }
+                finished.addAll(batch);
+            }
+        }
+    }
+
+    private synchronized @Nullable List<Task> takeBatch() {
+        if (ready.isEmpty()) {
+            return null;
+        }
+        List<Task> batch = ready;
+        ready = new ArrayList<>();
+        batch.sort(order);
+        batches++;
+        return batch;
+    }
+
+    private void run(Task task) {
+        RegisterCallbackEvent event = new RegisterCallbackEvent();
+        event.begin();
+        Runnable action = task.action;
+        task.action = null;
+        // Recorded first, so a failing callback is the last event in the trace
+        TraceRecorder.record(task.entry == null ? TraceRecorder.Kind.AFTER_REGISTER_CALLBACK : TraceRecorder.Kind.CALLBACK, modid, task.registry, task.entry);
+        long start = System.nanoTime();
+        action.run();
+        task.nanos = System.nanoTime() - start;
+        if (event.shouldCommit()) {
+            event.modid = modid;
+            event.registry = task.registry.location().toString();
+            event.entry = task.entry == null ? null : task.entry.toString();
+            event.afterRegister = task.entry == null;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return Entry keys which have callbacks waiting on them, but have not been declared
+     */
+    synchronized Set<ResourceKey<?>> getUndeclaredEntries() {
+        return undeclaredEntries.isEmpty() ? Collections.emptySet() : new HashSet<>(undeclaredEntries);
+    }
+
+    /**
+     * Drop all callbacks waiting on the given key.
+     *
+     * @return The number of callbacks dropped
+     */
+    synchronized int cancel(ResourceKey<?> key) {
+        undeclaredEntries.remove(key);
+        List<Task> tasks = waiting.remove(key);
+        if (tasks == null) {
+            return 0;
+        }
+        for (Task task : tasks) {
+            cancel(task);
+        }
+        return tasks.size();
+    }
+
+    /**
+     * Drop every callback still waiting, e.g. on a registry which is never registered.
+     *
+     * @return Descriptions of the dropped callbacks, in the order they were added
+     */
+    synchronized List<String> cancelAll() {
+        List<Task> dropped = new ArrayList<>();
+        for (List<Task> tasks : waiting.values()) {
+            for (Task task : tasks) {
+                if (cancel(task)) {
+                    dropped.add(task);
+                }
+            }
+        }
+        waiting.clear();
+        undeclaredEntries.clear();
+        return dropped.stream().sorted(Comparator.comparingLong(t -> t.sequence)).map(Task::describe).collect(Collectors.toList());
+    }
+
+    /**
+     * @return {@code true} if the task was not cancelled yet
+     */
+    private boolean cancel(Task task) {
+        if (task.cancelled) {
+            return false;
+        }
+        task.cancelled = true;
+        task.action = null;
+        if (task.entry != null) {
+            pendingEntryCallbacks--;
+        } else {
+            pendingRegistryCallbacks--;
+        }
+        return true;
+    }
+
+    synchronized int getPendingEntryCallbacks() {
+        return pendingEntryCallbacks;
+    }
+
+    synchronized int getPendingRegistryCallbacks() {
+        return pendingRegistryCallbacks;
+    }
+
+    synchronized boolean hasPendingCallbacks() {
+        return pendingEntryCallbacks > 0 || pendingRegistryCallbacks > 0;
+    }
+
+    /**
+     * @return The slowest callbacks run so far, slowest first
+     */
+    synchronized List<String> getSlowest() {
+        return finished.stream()
+                .sorted(Comparator.comparingLong((Task t) -> -t.nanos))
+                .limit(REPORT_SIZE)
+                .map(t -> t.describe() + ": " + TimeUnit.NANOSECONDS.toMicros(t.nanos) + " us")
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The callbacks run so far with the longest dependency chains, longest first
+     */
+    synchronized List<String> getLongestChains() {
+        return finished.stream()
+                .filter(t -> !t.chain.isEmpty())
+                .sorted(Comparator.comparingInt((Task t) -> -t.chain.size()).thenComparingLong(t -> t.sequence))
+                .limit(REPORT_SIZE)
+                .map(t -> t.chain.stream().map(k -> k.location().toString()).collect(Collectors.joining(" -> ")) + " -> " + t.describe())
+                .collect(Collectors.toList());
+    }
+
+    synchronized int getBatches() {
+        return batches;
+    }
+
+    /**
+     * Release all bookkeeping except what is needed for reports, which is reduced to the reported callbacks.
+     */
+    synchronized void release() {
+        List<Task> keep = new ArrayList<>();
+        finished.stream().sorted(Comparator.comparingLong((Task t) -> -t.nanos)).limit(REPORT_SIZE).forEach(keep::add);
+        finished.stream().sorted(Comparator.comparingInt((Task t) -> -t.chain.size()).thenComparingLong(t -> t.sequence)).limit(REPORT_SIZE).filter(t -> !keep.contains(t)).forEach(keep::add);
+        finished.clear();
+        finished.addAll(keep);
+        waiting.clear();
+        satisfied.clear();
+        declaredEntries.clear();
+        undeclaredEntries.clear();
+    }
+}
@@ -0,0 +1,133 @@
+package com.tterrag.registrate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.tterrag.registrate.fabric.RegistryUtil;
+import com.tterrag.registrate.util.DebugMarkers;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+
+/**
+ * Walks registries on behalf of every {@link AbstractRegistrate}, visiting each registrate only for the registries it has entries or callbacks for. Registries it has no work for are marked
+ * complete in bulk, without registering, checking callbacks or emitting events.
+ * <p>
+ * The walk order is that of {@link RegistryUtil#forAllRegistries(java.util.function.Consumer)}, so fluids, blocks and items are always registered first. It is computed once and reused until new
+ * registries are added.
+ * <p>
+ * Registrates registered within {@link #batch(Runnable)} share a single walk. For each registry, all of them register their entries before any of them run their after-register callbacks.
+ */
+@Log4j2
+public final class RegistrateCoordinator {
+
+    private static final List<AbstractRegistrate<?>> QUEUED = new ArrayList<>();
+    private static int batchDepth;
+
+    private static List<Registry<?>> order = Collections.emptyList();
+    private static int orderSize = -1;
+
+    private RegistrateCoordinator() {}
+
+    /**
+     * Register all entries of a registrate, or queue it if a {@link #batch(Runnable) batch} is open.
+     */
+    public static synchronized void register(AbstractRegistrate<?> registrate) {
+        if (batchDepth > 0) {
+            QUEUED.add(registrate);
+        } else {
+            walk(Collections.singletonList(registrate));
+        }
+    }
+
+    /**
+     * Run an action, deferring every {@link AbstractRegistrate#register()} within it until it completes, then register all of them in one walk of the registries. Batches may be nested, in which
+     * case the walk happens when the outermost one completes.
+     * <p>
+     * If the action throws, the queued registrates are discarded.
+     *
+     * @param action
+     *            The action, usually creating and registering several registrates
+     */
+    public static synchronized void batch(Runnable action) {
+        batchDepth++;
+        try {
+            action.run();
+        } catch (RuntimeException | Error e) {
+            if (--batchDepth == 0) {
+                QUEUED.clear();
+            }
+            throw e;
+        }
+        if (--batchDepth == 0 && !QUEUED.isEmpty()) {
+            List<AbstractRegistrate<?>> registrates = new ArrayList<>(QUEUED);
+            QUEUED.clear();
+            walk(registrates);
+        }
+    }
+
+    private static List<Registry<?>> getOrder() {
+        int size = Registry.REGISTRY.keySet().size();
+        if (size != orderSize) {
+            List<Registry<?>> registries = new ArrayList<>(size);
+            RegistryUtil.forAllRegistries(registries::add);
+            order = registries;
+            orderSize = size;
+        }
+        return order;
+    }
+
+    private static void walk(List<AbstractRegistrate<?>> registrates) {
+        int count = registrates.size();
+        List<List<ResourceKey<? extends Registry<?>>>> skipped = new ArrayList<>(count);
+        for (AbstractRegistrate<?> registrate : registrates) {
+            registrate.checkUnusedCallbacks();
+            skipped.add(new ArrayList<>());
+        }
+        boolean[] work = new boolean[count];
+        int visits = 0;
+        List<Registry<?>> registries = getOrder();
+        for (Registry<?> registry : registries) {
+            ResourceKey<? extends Registry<?>> type = registry.key();
+            boolean any = false;
+            for (int i = 0; i < count; i++) {
+                work[i] = registrates.get(i).hasRegistrationWork(type);
+                if (work[i]) {
+                    any = true;
+                } else {
+                    skipped.get(i).add(type);
+                }
+            }
+            if (!any) {
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                if (work[i]) {
+                    // Registries passed over so far must be complete before this one, callbacks may depend on them
+                    flush(registrates.get(i), skipped.get(i));
+                    registrates.get(i).onRegister(registry);
+                    visits++;
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                if (work[i]) {
+                    registrates.get(i).onRegisterLate(registry);
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            flush(registrates.get(i), skipped.get(i));
+            registrates.get(i).onRegistriesWalked();
+        }
+        log.debug(DebugMarkers.REGISTER, "Walked {} registries for {} registrate(s): {} visits, {} skipped", registries.size(), count, visits, registries.size() * count - visits);
+    }
+
+    private static void flush(AbstractRegistrate<?> registrate, List<ResourceKey<? extends Registry<?>>> skipped) {
+        if (!skipped.isEmpty()) {
+            registrate.skipRegistries(skipped);
+            skipped.clear();
+        }
+    }
+}
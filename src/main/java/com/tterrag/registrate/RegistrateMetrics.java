@@ -0,0 +1,126 @@
+package com.tterrag.registrate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+
+/**
+ * Live statistics for a single {@link AbstractRegistrate}. Counters updated on hot paths are {@link LongAdder}s, everything else is read from the owning registrate on demand.
+ * <p>
+ * Exposed through JMX (see {@link RegistrateMetricsMXBean}) unless the {@code registrate.jmx} system property is {@code false}, and through the {@code /registrate stats} command.
+ */
+@Log4j2
+public final class RegistrateMetrics implements RegistrateMetricsMXBean {
+
+    private static final List<RegistrateMetrics> INSTANCES = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return The metrics of every {@link AbstractRegistrate} created so far, in creation order
+     */
+    public static List<RegistrateMetrics> all() {
+        return Collections.unmodifiableList(INSTANCES);
+    }
+
+    private final AbstractRegistrate<?> owner;
+
+    private final LongAdder unusedCallbacks = new LongAdder();
+    private final LongAdder missingEntryGets = new LongAdder();
+    private final Map<ResourceKey<? extends Registry<?>>, LongAdder> registerTime = new ConcurrentHashMap<>();
+
+    RegistrateMetrics(AbstractRegistrate<?> owner) {
+        this.owner = owner;
+        INSTANCES.add(this);
+        if (!"false".equals(System.getProperty("registrate.jmx"))) {
+            registerMBean();
+        }
+    }
+
+    private void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("com.tterrag.registrate:type=Registrate,modid=" + ObjectName.quote(getModid()));
+            // Several registrates may share a mod ID
+            for (int i = 1; server.isRegistered(name); i++) {
+                name = new ObjectName("com.tterrag.registrate:type=Registrate,modid=" + ObjectName.quote(getModid()) + ",instance=" + i);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException | SecurityException e) {
+            log.warn("Could not register metrics MBean for {}", getModid(), e);
+        }
+    }
+
+    void recordUnusedCallbacks(int count) {
+        unusedCallbacks.add(count);
+    }
+
+    void recordRegisterTime(ResourceKey<? extends Registry<?>> registry, long nanos) {
+        registerTime.computeIfAbsent(registry, k -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * Record a failed {@link com.tterrag.registrate.util.entry.RegistryEntry#get()}. Not intended to be called by mods.
+     */
+    public void recordMissingEntryGet() {
+        missingEntryGets.increment();
+    }
+
+    @Override
+    public String getModid() {
+        return owner.getModid();
+    }
+
+    @Override
+    public Map<String, Integer> getEntriesPerRegistry() {
+        return owner.getEntryCounts();
+    }
+
+    @Override
+    public int getPendingRegisterCallbacks() {
+        return owner.getPendingRegisterCallbackCount();
+    }
+
+    @Override
+    public int getPendingAfterRegisterCallbacks() {
+        return owner.getPendingAfterRegisterCallbackCount();
+    }
+
+    @Override
+    public List<String> getSlowestCallbacks() {
+        return owner.getSlowestCallbacks();
+    }
+
+    @Override
+    public List<String> getLongestCallbackChains() {
+        return owner.getLongestCallbackChains();
+    }
+
+    @Override
+    public long getUnusedCallbacks() {
+        return unusedCallbacks.sum();
+    }
+
+    @Override
+    public Map<String, Long> getRegisterTimeNanos() {
+        Map<String, Long> ret = new TreeMap<>();
+        registerTime.forEach((k, v) -> ret.put(k.location().toString(), v.sum()));
+        return ret;
+    }
+
+    @Override
+    public long getMissingEntryGets() {
+        return missingEntryGets.sum();
+    }
+}
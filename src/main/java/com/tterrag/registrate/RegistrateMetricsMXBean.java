@@ -0,0 +1,54 @@
+package com.tterrag.registrate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface for the statistics of a single {@link AbstractRegistrate}, registered with the platform MBean server under {@code com.tterrag.registrate:type=Registrate,modid=<modid>}.
+ * <p>
+ * Registry maps are keyed by registry ID.
+ */
+public interface RegistrateMetricsMXBean {
+
+    String getModid();
+
+    /**
+     * @return The number of entries declared for each registry
+     */
+    Map<String, Integer> getEntriesPerRegistry();
+
+    /**
+     * @return The number of register callbacks that have not yet run, including those added for entries which have not been declared
+     */
+    int getPendingRegisterCallbacks();
+
+    /**
+     * @return The number of callbacks waiting for their registry to complete
+     */
+    int getPendingAfterRegisterCallbacks();
+
+    /**
+     * @return The slowest register callbacks run so far, with their run times
+     */
+    List<String> getSlowestCallbacks();
+
+    /**
+     * @return The register callbacks run so far with the longest chains of dependencies
+     */
+    List<String> getLongestCallbackChains();
+
+    /**
+     * @return The number of register callbacks found for entries that were never declared
+     */
+    long getUnusedCallbacks();
+
+    /**
+     * @return The time spent registering entries to each registry, in nanoseconds
+     */
+    Map<String, Long> getRegisterTimeNanos();
+
+    /**
+     * @return The number of calls to {@link com.tterrag.registrate.util.entry.RegistryEntry#get()} that failed as the entry was not present
+     */
+    long getMissingEntryGets();
+}
@@ -0,0 +1,60 @@
+package com.tterrag.registrate.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class containing {@link RegistrateEntry @RegistrateEntry} factory methods. The Registrate annotation processor generates a holder class next to it, with a {@code public static final}
+ * {@link com.tterrag.registrate.util.entry.RegistryEntry RegistryEntry} field per entry, declared through
+ * {@link com.tterrag.registrate.AbstractRegistrate#declare(String, net.minecraft.resources.ResourceKey, com.tterrag.registrate.util.nullness.NonNullSupplier, com.tterrag.registrate.util.nullness.NonNullFunction)
+ * AbstractRegistrate#declare}.
+ * <p>
+ * Entries are declared when the holder class is initialized. The factory methods are called directly from generated code, so no builders or lambdas are created per entry.
+ * 
+ * <pre>
+ * {@code
+ * @RegistrateDeclarations(registrate = "REGISTRATE")
+ * public class MyBlocks {
+ * 
+ *     static final Registrate REGISTRATE = MyMod.REGISTRATE;
+ * 
+ *     @RegistrateEntry(name = "marble", registry = "minecraft:block")
+ *     static Block marble() {
+ *         return new Block(BlockBehaviour.Properties.copy(Blocks.STONE));
+ *     }
+ * }
+ * 
+ * // Generated, with fully qualified names
+ * public final class MyBlocksEntries {
+ * 
+ *     public static final BlockEntry<Block> MARBLE;
+ * 
+ *     static {
+ *         AbstractRegistrate registrate = MyBlocks.REGISTRATE;
+ *         Factory factory0 = new Factory(registrate, 0);
+ *         MARBLE = (BlockEntry) registrate.declare("marble", REGISTRY_0, factory0, factory0);
+ *     }
+ * 
+ *     // REGISTRY_0 and Factory, which calls MyBlocks.marble() and creates the BlockEntry
+ * }
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface RegistrateDeclarations {
+
+    /**
+     * @return The name of a static field of the annotated class which holds the {@link com.tterrag.registrate.AbstractRegistrate AbstractRegistrate} to declare entries with
+     */
+    String registrate();
+
+    /**
+     * @return The simple name of the generated holder class. Defaults to the name of the annotated class followed by {@code Entries}.
+     */
+    String holder() default "";
+}
@@ -0,0 +1,30 @@
+package com.tterrag.registrate.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a static, no-argument, non-private factory method in a {@link RegistrateDeclarations @RegistrateDeclarations} class as the creator of a registry entry. The method is called once, at
+ * registration time.
+ * <p>
+ * Blocks and items are wrapped in {@link com.tterrag.registrate.util.entry.BlockEntry BlockEntry} and {@link com.tterrag.registrate.util.entry.ItemEntry ItemEntry}, anything else in a plain
+ * {@link com.tterrag.registrate.util.entry.RegistryEntry RegistryEntry}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface RegistrateEntry {
+
+    /**
+     * @return The name of the entry, within the registrate's mod ID
+     */
+    String name();
+
+    /**
+     * @return The ID of the registry, e.g. {@code minecraft:block}
+     */
+    String registry();
+}
@@ -1,13 +1,16 @@
 package com.tterrag.registrate.builders;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.hash.Hasher;
 import com.google.common.collect.Multimap;
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.fabric.RegistryObject;
 import com.tterrag.registrate.fabric.RegistryUtil;
 import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.providers.RegistrateDataProvider;
 import com.tterrag.registrate.providers.RegistrateLangProvider;
 import com.tterrag.registrate.providers.RegistrateTagsProvider;
+import com.tterrag.registrate.util.GeneratorFingerprint;
 import com.tterrag.registrate.util.entry.LazyRegistryEntry;
 import com.tterrag.registrate.util.entry.RegistryEntry;
 import com.tterrag.registrate.util.nullness.NonNullBiFunction;
@@ -21,7 +24,9 @@ import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.tags.TagKey;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Base class which most builders should extend, instead of implementing [@link {@link Builder} directly.
@@ -39,7 +44,7 @@ import java.util.Arrays;
  * @see Builder
  */
 @RequiredArgsConstructor
-public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuilder<R, T, P, S>> implements Builder<R, T, P, S> {
+public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuilder<R, T, P, S>> implements Builder<R, T, P, S>, GeneratorFingerprint.Snapshot {
 
     @Getter(onMethod_ = {@Override})
     private final AbstractRegistrate<?> owner;
@@ -51,6 +56,8 @@ public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuild
     private final BuilderCallback callback;
     @Getter(onMethod_ = {@Override})
     private final ResourceKey<Registry<R>> registryKey;
+    @Getter(onMethod_ = {@Override})
+    private boolean mainThreadOnly;
     
     private final Multimap<ProviderType<? extends RegistrateTagsProvider<?>>, TagKey<?>> tagsByType = HashMultimap.create();
     
@@ -74,11 +81,40 @@ public abstract class AbstractBuilder<R, T extends R, P, S extends AbstractBuild
         return new RegistryEntry<>(getOwner(), delegate);
     }
     
+    /**
+     * Construct this entry on the thread performing registration, even when {@link AbstractRegistrate#parallelConstruction(boolean) parallel construction} is enabled. It is constructed once
+     * every entry declared before it has been registered, and never concurrently with other entries of its registry. Needed for factories which touch thread-confined state, or which depend on entries of the
+     * same registry declared before them.
+     * 
+     * @return this {@link Builder}
+     */
+    @SuppressWarnings("unchecked")
+    public S mainThreadOnly() {
+        this.mainThreadOnly = true;
+        return (S) this;
+    }
+    
     @Override
     public NonNullSupplier<T> asSupplier() {
         return safeSupplier;
     }
 
+    /**
+     * Fingerprint the entry this builder declares and the configuration its data generators read, such as its tags. Builders whose generators read other fields of the builder must add them.
+     */
+    @Override
+    public boolean fingerprint(Hasher hasher) {
+        hasher.putString(owner.getModid(), StandardCharsets.UTF_8).putString(registryKey.location().toString(), StandardCharsets.UTF_8).putString(name, StandardCharsets.UTF_8);
+        // Sorted, as the multimap iterates in hash order
+        List<String> tags = tagsByType.entries().stream()
+                .map(e -> RegistrateDataProvider.getTypeName(e.getKey()) + " " + e.getValue().location())
+                .sorted()
+                .toList();
+        hasher.putInt(tags.size());
+        tags.forEach(tag -> hasher.putString(tag, StandardCharsets.UTF_8));
+        return true;
+    }
+
     /**
      * Tag this entry with a tag (or tags) of the correct type. Multiple calls will add additional tags.
      * 
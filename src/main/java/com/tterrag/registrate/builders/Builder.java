@@ -1,5 +1,6 @@
 package com.tterrag.registrate.builders;
 
+import java.util.Collections;
 import java.util.function.Function;
 
 import com.tterrag.registrate.AbstractRegistrate;
@@ -65,6 +66,15 @@ public interface Builder<R, T extends R, P, S extends Builder<R, T, P, S>> exten
     
     ResourceKey<? extends Registry<R>> getRegistryKey();
 
+    /**
+     * Whether the entry must be constructed on the thread performing registration, even when {@link AbstractRegistrate#parallelConstruction(boolean) parallel construction} is enabled.
+     * 
+     * @return {@code true} if the entry must not be constructed on a worker thread
+     */
+    default boolean isMainThreadOnly() {
+        return false;
+    }
+
     /**
      * Get the {@link RegistryEntry} representing the entry built by this builder. Cannot be called before the builder is built.
      * 
@@ -118,6 +128,24 @@ public interface Builder<R, T extends R, P, S extends Builder<R, T, P, S>> exten
         return (S) this;
     }
 
+    /**
+     * Like {@link #setData(ProviderType, NonNullBiConsumer)}, but the callback never runs concurrently with other callbacks of its type, even when
+     * {@link AbstractRegistrate#parallelDatagen(boolean) parallel datagen} is enabled. Needed for callbacks which touch state shared with other entries.
+     * 
+     * @param <D>
+     *            The type of provider
+     * @param type
+     *            The {@link ProviderType} for the desired provider
+     * @param cons
+     *            The callback to execute when the provider is run
+     * @return this builder
+     */
+    @SuppressWarnings("unchecked")
+    default <D extends RegistrateProvider> S setSerialData(ProviderType<? extends D> type, NonNullBiConsumer<DataGenContext<R, T>, D> cons) {
+        getOwner().setSerialDataGenerator(getName(), getRegistryKey(), type, prov -> cons.accept(DataGenContext.from(this, getRegistryKey()), prov));
+        return (S) this;
+    }
+
     /**
      * Add a data provider callback which will be invoked when the provider of the given type executes.
      * <p>
@@ -147,9 +175,24 @@ public interface Builder<R, T extends R, P, S extends Builder<R, T, P, S>> exten
      *            the callback to invoke
      * @return this {@link Builder}
      */
-    @SuppressWarnings("unchecked")
     default S onRegister(NonNullConsumer<? super T> callback) {
-        getOwner().<R, T>addRegisterCallback(getName(), getRegistryKey(), callback);
+        return onRegister(0, callback);
+    }
+
+    /**
+     * Add a callback to be invoked when this entry is registered, with a priority. Callbacks which become ready at the same time are invoked with higher priorities first, then in the order they
+     * were added.
+     * 
+     * @param priority
+     *            the priority of the callback
+     * @param callback
+     *            the callback to invoke
+     * @return this {@link Builder}
+     * @see #onRegister(NonNullConsumer)
+     */
+    @SuppressWarnings("unchecked")
+    default S onRegister(int priority, NonNullConsumer<? super T> callback) {
+        getOwner().<R, T>addRegisterCallback(getName(), getRegistryKey(), priority, Collections.emptyList(), callback);
         return (S) this;
     }
 
@@ -168,13 +211,27 @@ public interface Builder<R, T extends R, P, S extends Builder<R, T, P, S>> exten
      * @return this {@link Builder}
      */
     default <OR> S onRegisterAfter(ResourceKey<? extends Registry<OR>> dependencyType, NonNullConsumer<? super T> callback) {
-        return onRegister(e -> {
-            if (getOwner().<OR>isRegistered(dependencyType)) {
-                callback.accept(e);
-            } else {
-                getOwner().<OR>addRegisterCallback(dependencyType, () -> callback.accept(e));
-            }
-        });
+        return onRegisterAfter(dependencyType, 0, callback);
+    }
+
+    /**
+     * Add a callback to be invoked when this entry is registered and some other registry type has been registered, with a priority.
+     * 
+     * @param <OR>
+     *            The dependency registry type
+     * @param dependencyType
+     *            the dependency registry
+     * @param priority
+     *            the priority of the callback
+     * @param callback
+     *            the callback to invoke
+     * @return this {@link Builder}
+     * @see #onRegisterAfter(ResourceKey, NonNullConsumer)
+     */
+    @SuppressWarnings("unchecked")
+    default <OR> S onRegisterAfter(ResourceKey<? extends Registry<OR>> dependencyType, int priority, NonNullConsumer<? super T> callback) {
+        getOwner().<R, T>addRegisterCallback(getName(), getRegistryKey(), priority, Collections.singleton(dependencyType), callback);
+        return (S) this;
     }
 
     /**
@@ -2,6 +2,7 @@ package com.tterrag.registrate.builders;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.Hasher;
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.fabric.EnvExecutor;
 import com.tterrag.registrate.fabric.FluidHelper;
@@ -36,6 +37,7 @@ import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.Fluid;
 
 import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -347,6 +349,15 @@ public class FluidBuilder<T extends SimpleFlowableFluid, P> extends AbstractBuil
         return this;
     }
 
+    @Override
+    public boolean fingerprint(Hasher hasher) {
+        hasher.putString(sourceName, StandardCharsets.UTF_8).putString(bucketName, StandardCharsets.UTF_8)
+            .putString(stillTexture.toString(), StandardCharsets.UTF_8).putString(flowingTexture.toString(), StandardCharsets.UTF_8);
+        hasher.putInt(tags.size());
+        tags.forEach(tag -> hasher.putString(tag.location().toString(), StandardCharsets.UTF_8));
+        return super.fingerprint(hasher);
+    }
+
     /**
      * Assign {@link TagKey}{@code s} to this fluid and its source fluid. Multiple calls will add additional tags.
      *
@@ -0,0 +1,303 @@
+package com.tterrag.registrate.builders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.tterrag.registrate.AbstractRegistrate;
+import com.tterrag.registrate.providers.DataGenContext;
+import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.providers.RegistrateBlockstateProvider;
+import com.tterrag.registrate.providers.loot.RegistrateBlockLootTables;
+import com.tterrag.registrate.providers.loot.RegistrateLootTableProvider.LootType;
+import com.tterrag.registrate.util.entry.BlockEntry;
+import com.tterrag.registrate.util.entry.ItemEntry;
+import com.tterrag.registrate.util.nullness.NonNullBiConsumer;
+import com.tterrag.registrate.util.nullness.NonNullBiFunction;
+import com.tterrag.registrate.util.nullness.NonNullFunction;
+import com.tterrag.registrate.util.nullness.NonNullSupplier;
+
+import net.fabricmc.fabric.api.item.v1.FabricItemSettings;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.CreativeModeTab;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.material.Material;
+import net.minecraft.world.level.storage.loot.BuiltInLootTables;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A template for a family of blocks which only differ by a variant parameter, such as a color or a shape. The template is configured once, and {@link #register()} declares one block (and
+ * optionally one block item) per variant.
+ * <p>
+ * Unlike a {@link BlockBuilder} per variant, all entries of a family share the same callbacks, which receive the variant as a parameter, and each kind of data is generated by a single generator
+ * for the whole family. Startup allocations and datagen memory scale with the number of families rather than the number of entries.
+ *
+ * <pre>
+ * {@code
+ * public static final Map<DyeColor, BlockEntry<Block>> WOOL = REGISTRATE.family(Arrays.asList(DyeColor.values()), c -> c.getName() + "_fancy_wool", (c, p) -> new Block(p), Material.WOOL)
+ *         .properties((c, p) -> p.color(c.getMaterialColor()))
+ *         .blockstate((ctx, prov, c) -> prov.simpleBlock(ctx.getEntry()))
+ *         .tag(BlockTags.WOOL)
+ *         .simpleItem()
+ *         .register();
+ * }
+ * </pre>
+ *
+ * @param <V>
+ *            The type of the variant parameter
+ * @param <T>
+ *            The type of the blocks
+ */
+public class VariantFamilyBuilder<V, T extends Block> {
+
+    /**
+     * A data generator callback for one entry of a family, which also receives the variant of the entry.
+     */
+    @FunctionalInterface
+    public interface VariantDataGenerator<V, C, P> {
+
+        void accept(C ctx, P prov, V variant);
+    }
+
+    public static <V, T extends Block> VariantFamilyBuilder<V, T> create(AbstractRegistrate<?> owner, Iterable<? extends V> variants, NonNullFunction<? super V, String> namer,
+            NonNullBiFunction<? super V, BlockBehaviour.Properties, ? extends T> factory, Material material, @Nullable NonNullSupplier<? extends CreativeModeTab> tab) {
+        return new VariantFamilyBuilder<>(owner, variants, namer, factory, () -> BlockBehaviour.Properties.of(material), tab);
+    }
+
+    private final AbstractRegistrate<?> owner;
+    private final List<V> variants;
+    private final NonNullFunction<? super V, String> namer;
+    private final NonNullBiFunction<? super V, BlockBehaviour.Properties, ? extends T> factory;
+    @Nullable
+    private final NonNullSupplier<? extends CreativeModeTab> tab;
+
+    private NonNullSupplier<BlockBehaviour.Properties> initialProperties;
+    private NonNullBiFunction<? super V, BlockBehaviour.Properties, BlockBehaviour.Properties> propertiesCallback = (v, p) -> p;
+    private VariantDataGenerator<? super V, DataGenContext<Block, T>, RegistrateBlockstateProvider> blockstate = (ctx, prov, v) -> prov.simpleBlock(ctx.getEntry());
+    @Nullable
+    private NonNullFunction<? super V, String> lang;
+    @Nullable
+    private NonNullBiConsumer<RegistrateBlockLootTables, T> loot = RegistrateBlockLootTables::dropSelf;
+    private final List<TagKey<Block>> tags = new ArrayList<>();
+
+    @Nullable
+    private NonNullBiFunction<? super T, Item.Properties, ? extends BlockItem> itemFactory;
+    private final List<TagKey<Item>> itemTags = new ArrayList<>();
+
+    protected VariantFamilyBuilder(AbstractRegistrate<?> owner, Iterable<? extends V> variants, NonNullFunction<? super V, String> namer,
+            NonNullBiFunction<? super V, BlockBehaviour.Properties, ? extends T> factory, NonNullSupplier<BlockBehaviour.Properties> initialProperties,
+            @Nullable NonNullSupplier<? extends CreativeModeTab> tab) {
+        this.owner = owner;
+        this.variants = ImmutableList.copyOf(variants);
+        this.namer = namer;
+        this.factory = factory;
+        this.initialProperties = initialProperties;
+        this.tab = tab;
+    }
+
+    /**
+     * Replace the initial properties of every block in the family.
+     *
+     * @param properties
+     *            A supplier of new properties, called once per block
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> initialProperties(NonNullSupplier<BlockBehaviour.Properties> properties) {
+        this.initialProperties = properties;
+        return this;
+    }
+
+    /**
+     * Modify the properties of each block, depending on its variant. Multiple calls are composed.
+     *
+     * @param func
+     *            The action to perform on the properties
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> properties(NonNullBiFunction<? super V, BlockBehaviour.Properties, BlockBehaviour.Properties> func) {
+        NonNullBiFunction<? super V, BlockBehaviour.Properties, BlockBehaviour.Properties> current = this.propertiesCallback;
+        this.propertiesCallback = (v, p) -> func.apply(v, current.apply(v, p));
+        return this;
+    }
+
+    /**
+     * Configure the blockstate/models of each block. By default, each block maps all states to a single cube_all model.
+     *
+     * @param cons
+     *            The callback, invoked once per variant during data generation
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> blockstate(VariantDataGenerator<? super V, DataGenContext<Block, T>, RegistrateBlockstateProvider> cons) {
+        this.blockstate = cons;
+        return this;
+    }
+
+    /**
+     * Set the translation of each block. By default, the automatic name is used.
+     *
+     * @param name
+     *            A function to get the localized English name of a variant
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> lang(NonNullFunction<? super V, String> name) {
+        this.lang = name;
+        return this;
+    }
+
+    /**
+     * Configure the loot table of each block. By default, each block drops itself.
+     *
+     * @param cons
+     *            The callback, invoked once per block during block loot table creation
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> loot(NonNullBiConsumer<RegistrateBlockLootTables, T> cons) {
+        this.loot = cons;
+        return this;
+    }
+
+    /**
+     * Generate no loot tables for this family.
+     *
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> noLoot() {
+        this.loot = null;
+        return this;
+    }
+
+    /**
+     * Add every block of the family to the given tags. Multiple calls will add additional tags.
+     *
+     * @param tags
+     *            The tags to add
+     * @return this {@link VariantFamilyBuilder}
+     */
+    @SafeVarargs
+    public final VariantFamilyBuilder<V, T> tag(TagKey<Block>... tags) {
+        this.tags.addAll(Arrays.asList(tags));
+        return this;
+    }
+
+    /**
+     * Create a standard {@link BlockItem} for every block, with a simple block item model.
+     *
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> simpleItem() {
+        return item(BlockItem::new);
+    }
+
+    /**
+     * Create a {@link BlockItem} for every block, using the given factory, with a simple block item model.
+     *
+     * @param factory
+     *            A factory for the items, which accepts the block and properties
+     * @return this {@link VariantFamilyBuilder}
+     */
+    public VariantFamilyBuilder<V, T> item(NonNullBiFunction<? super T, Item.Properties, ? extends BlockItem> factory) {
+        this.itemFactory = factory;
+        return this;
+    }
+
+    /**
+     * Add every item of the family to the given tags. Multiple calls will add additional tags. Only applies if items are created.
+     *
+     * @param tags
+     *            The tags to add
+     * @return this {@link VariantFamilyBuilder}
+     */
+    @SafeVarargs
+    public final VariantFamilyBuilder<V, T> itemTag(TagKey<Item>... tags) {
+        this.itemTags.addAll(Arrays.asList(tags));
+        return this;
+    }
+
+    /**
+     * Declare every entry of the family, and one data generator per kind of data for all of them.
+     *
+     * @return The blocks of the family by variant, in variant order. Items can be found with {@link BlockEntry#getSibling(net.minecraft.resources.ResourceKey)}.
+     */
+    public ImmutableMap<V, BlockEntry<T>> register() {
+        ImmutableMap.Builder<V, BlockEntry<T>> blocks = ImmutableMap.builder();
+        List<BlockEntry<T>> blockList = new ArrayList<>(variants.size());
+        List<ItemEntry<BlockItem>> itemList = new ArrayList<>(itemFactory == null ? 0 : variants.size());
+        // Snapshot the configuration, so the family is unaffected by later changes to this builder
+        NonNullSupplier<BlockBehaviour.Properties> initialProperties = this.initialProperties;
+        NonNullBiFunction<? super V, BlockBehaviour.Properties, BlockBehaviour.Properties> propertiesCallback = this.propertiesCallback;
+        NonNullBiFunction<? super T, Item.Properties, ? extends BlockItem> itemFactory = this.itemFactory;
+        for (V variant : variants) {
+            String name = namer.apply(variant);
+            BlockEntry<T> block = (BlockEntry<T>) owner.<Block, T>declare(name, Registry.BLOCK_REGISTRY,
+                    () -> factory.apply(variant, propertiesCallback.apply(variant, initialProperties.get())), delegate -> new BlockEntry<>(owner, delegate));
+            blocks.put(variant, block);
+            blockList.add(block);
+            if (itemFactory != null) {
+                itemList.add((ItemEntry<BlockItem>) owner.<Item, BlockItem>declare(name, Registry.ITEM_REGISTRY, () -> itemFactory.apply(block.get(), itemProperties()),
+                        delegate -> new ItemEntry<>(owner, delegate)));
+            }
+        }
+        addDataGenerators(blockList, itemList);
+        return blocks.build();
+    }
+
+    private Item.Properties itemProperties() {
+        Item.Properties properties = new FabricItemSettings();
+        return tab == null ? properties : properties.tab(tab.get());
+    }
+
+    private void addDataGenerators(List<BlockEntry<T>> blocks, List<ItemEntry<BlockItem>> items) {
+        Preconditions.checkState(blocks.size() == variants.size());
+        List<V> variants = this.variants;
+        VariantDataGenerator<? super V, DataGenContext<Block, T>, RegistrateBlockstateProvider> blockstate = this.blockstate;
+        owner.addDataGenerator(ProviderType.BLOCKSTATE, prov -> {
+            for (int i = 0; i < blocks.size(); i++) {
+                blockstate.accept(context(blocks.get(i)), prov, variants.get(i));
+            }
+        });
+        NonNullFunction<? super V, String> lang = this.lang;
+        owner.addDataGenerator(ProviderType.LANG, prov -> {
+            for (int i = 0; i < blocks.size(); i++) {
+                if (lang == null) {
+                    prov.addBlock(blocks.get(i));
+                } else {
+                    prov.add(blocks.get(i).get(), lang.apply(variants.get(i)));
+                }
+            }
+        });
+        NonNullBiConsumer<RegistrateBlockLootTables, T> loot = this.loot;
+        if (loot != null) {
+            owner.addDataGenerator(ProviderType.LOOT, prov -> prov.addLootAction(LootType.BLOCK, tb -> {
+                for (BlockEntry<T> block : blocks) {
+                    if (!block.get().getLootTable().equals(BuiltInLootTables.EMPTY)) {
+                        loot.accept((RegistrateBlockLootTables) tb, block.get());
+                    }
+                }
+            }));
+        }
+        if (!tags.isEmpty()) {
+            List<TagKey<Block>> tags = ImmutableList.copyOf(this.tags);
+            owner.addDataGenerator(ProviderType.BLOCK_TAGS, prov -> tags.forEach(tag -> blocks.forEach(block -> prov.tag(tag).add(block.get()))));
+        }
+        if (!items.isEmpty()) {
+            owner.addDataGenerator(ProviderType.ITEM_MODEL, prov -> items.forEach(prov::blockItem));
+            if (!itemTags.isEmpty()) {
+                List<TagKey<Item>> itemTags = ImmutableList.copyOf(this.itemTags);
+                owner.addDataGenerator(ProviderType.ITEM_TAGS, prov -> itemTags.forEach(tag -> items.forEach(item -> prov.tag(tag).add(item.get()))));
+            }
+        }
+    }
+
+    private DataGenContext<Block, T> context(BlockEntry<T> block) {
+        ResourceLocation id = block.getId();
+        return new DataGenContext<>(block, id.getPath(), id);
+    }
+}
@@ -1,13 +1,21 @@
 package com.tterrag.registrate.fabric;
 
+import com.tterrag.registrate.AbstractRegistrate;
+
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
 import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BaseLangProvider extends FabricLanguageProvider {
-	private final Map<String, String> entries = new HashMap<>();
+	/**
+	 * A translation, with the index of the data generator which added it. Generators may run concurrently, so when two add the same key, the one a serial run would have run last wins.
+	 */
+	private record Translation(String value, int generator) {}
+
+	private final Map<String, Translation> entries = new ConcurrentHashMap<>();
 
 	protected BaseLangProvider(FabricDataGenerator dataGenerator) {
 		super(dataGenerator);
@@ -19,10 +27,25 @@ public class BaseLangProvider extends FabricLanguageProvider {
 
 	@Override
 	public void generateTranslations(TranslationBuilder translationBuilder) {
-		entries.forEach(translationBuilder::add);
+		entries.forEach((key, translation) -> translationBuilder.add(key, translation.value()));
+	}
+
+	/**
+	 * @return A snapshot of all translations added so far
+	 */
+	public Map<String, String> getEntries() {
+		Map<String, String> ret = new HashMap<>(entries.size());
+		entries.forEach((key, translation) -> ret.put(key, translation.value()));
+		return ret;
 	}
 
 	public void add(String key, String value) {
-		entries.put(key, value);
+		int generator = AbstractRegistrate.getGeneratorIndex();
+		Translation translation = new Translation(value, generator);
+		if (generator < 0) {
+			entries.put(key, translation);
+		} else {
+			entries.merge(key, translation, (existing, added) -> added.generator() >= existing.generator() ? added : existing);
+		}
 	}
 }
@@ -0,0 +1,11 @@
+package com.tterrag.registrate.fabric;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+
+public class CommonInit implements ModInitializer {
+	@Override
+	public void onInitialize() {
+		CommandRegistrationCallback.EVENT.register((dispatcher, buildContext, selection) -> RegistrateCommand.register(dispatcher));
+	}
+}
@@ -0,0 +1,72 @@
+package com.tterrag.registrate.fabric;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.tterrag.registrate.RegistrateMetrics;
+import com.tterrag.registrate.util.TraceRecorder;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The ops-only {@code /registrate} command.
+ * <ul>
+ * <li>{@code /registrate stats [modid]} - print the {@link RegistrateMetrics} of every registrate, or those of a single mod</li>
+ * <li>{@code /registrate trace} - dump the {@link TraceRecorder} buffer to the log</li>
+ * </ul>
+ */
+@Log4j2
+public class RegistrateCommand {
+
+	public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("registrate")
+				.requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+				.then(Commands.literal("stats")
+						.executes(ctx -> stats(ctx, null))
+						.then(Commands.argument("modid", StringArgumentType.word())
+								.suggests((ctx, builder) -> SharedSuggestionProvider.suggest(RegistrateMetrics.all().stream().map(RegistrateMetrics::getModid).distinct(), builder))
+								.executes(ctx -> stats(ctx, StringArgumentType.getString(ctx, "modid")))))
+				.then(Commands.literal("trace")
+						.executes(RegistrateCommand::trace)));
+	}
+
+	private static int trace(CommandContext<CommandSourceStack> ctx) {
+		log.info("Most recent registrate events:");
+		int count = TraceRecorder.dump(log::info);
+		ctx.getSource().sendSuccess(Component.literal("Dumped " + count + " registrate events to the log"), false);
+		return count;
+	}
+
+	private static int stats(CommandContext<CommandSourceStack> ctx, @Nullable String modid) {
+		CommandSourceStack source = ctx.getSource();
+		int found = 0;
+		for (RegistrateMetrics metrics : RegistrateMetrics.all()) {
+			if (modid != null && !modid.equals(metrics.getModid())) {
+				continue;
+			}
+			found++;
+			Map<String, Integer> entries = metrics.getEntriesPerRegistry();
+			Map<String, Long> times = metrics.getRegisterTimeNanos();
+			source.sendSuccess(Component.literal(String.format("[%s] %d entries, %d pending callbacks, %d pending after-register callbacks, %d unused callbacks, %d missing entry lookups",
+					metrics.getModid(), entries.values().stream().mapToInt(Integer::intValue).sum(), metrics.getPendingRegisterCallbacks(), metrics.getPendingAfterRegisterCallbacks(),
+					metrics.getUnusedCallbacks(), metrics.getMissingEntryGets())), false);
+			entries.forEach((registry, count) -> {
+				Long nanos = times.get(registry);
+				source.sendSuccess(Component.literal(String.format("  %s: %d entries, %s", registry, count,
+						nanos == null ? "not yet registered" : TimeUnit.NANOSECONDS.toMillis(nanos) + " ms")), false);
+			});
+		}
+		if (found == 0) {
+			source.sendFailure(Component.literal(modid == null ? "No registrates found" : "No registrate found for mod " + modid));
+		}
+		return found;
+	}
+}
@@ -19,6 +19,8 @@ public class RegistryObject<T> implements Supplier<T> {
 	private final ResourceLocation id;
 	@Nullable
 	private T object;
+	@Nullable
+	private Registry<? super T> registry;
 
 	private RegistryObject() {
 		id = null;
@@ -28,13 +30,28 @@ public class RegistryObject<T> implements Supplier<T> {
 	private RegistryObject(ResourceLocation id, Registry<? super T> registry) {
 		Objects.requireNonNull(registry);
 		this.id = id;
+		this.registry = registry;
 		object = (T) registry.get(this.id);
 	}
 
+	private RegistryObject(ResourceLocation id, Registry<? super T> registry, @Nullable T object) {
+		this.id = id;
+		this.registry = Objects.requireNonNull(registry);
+		this.object = object;
+	}
+
 	public static <T> RegistryObject<T> of(ResourceLocation id, Registry<? super T> registry) {
 		return new RegistryObject<>(id, registry);
 	}
 
+	/**
+	 * Create an object for an entry which has not been registered yet, without looking it up. It is not present until {@link #updateReference(Registry, Object)} or
+	 * {@link #updateReference(Registry)} is called.
+	 */
+	public static <T> RegistryObject<T> unbound(ResourceLocation id, Registry<? super T> registry) {
+		return new RegistryObject<>(id, registry, null);
+	}
+
 	public static <T, U extends T> RegistryObject<U> create(final ResourceLocation name, final ResourceLocation registryName, String modid) {
 		return new RegistryObject<>(name, (Registry<U>) Registry.REGISTRY.get(registryName));
 	}
@@ -55,11 +72,28 @@ public class RegistryObject<T> implements Supplier<T> {
 		return id;
 	}
 
+	/**
+	 * @return The registry this object was last looked up in, or null if this object is empty
+	 */
+	@Nullable
+	public Registry<? super T> getRegistry() {
+		return registry;
+	}
+
 	@SuppressWarnings("unchecked")
 	public void updateReference(Registry<? super T> registry) {
+		this.registry = registry;
 		object = (T) registry.get(getId());
 	}
 
+	/**
+	 * Bind the object directly, for when the registered instance is already known.
+	 */
+	public void updateReference(Registry<? super T> registry, T object) {
+		this.registry = registry;
+		this.object = Objects.requireNonNull(object);
+	}
+
 	public boolean isPresent() {
 		return object != null;
 	}
@@ -1,10 +1,31 @@
 package com.tterrag.registrate.fabric;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
 
 public class RegistryUtil {
+	private static final Map<ResourceKey<?>, Registry<?>> REGISTRIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Get a registry by key. Registries are looked up once and cached, as they are never replaced once created.
+	 *
+	 * @throws NullPointerException if the registry does not exist
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Registry<T> getRegistry(ResourceKey<? extends Registry<T>> key) {
+		Registry<?> registry = REGISTRIES.get(key);
+		if (registry == null) {
+			registry = Objects.requireNonNull(Registry.REGISTRY.get(key.location()), () -> "Unknown registry " + key.location());
+			REGISTRIES.put(key, registry);
+		}
+		return (Registry<T>) registry;
+	}
+
 	public static void forAllRegistries(Consumer<Registry<?>> consumer) {
 		// Fluid, Block, and Item need to run first
 		consumer.accept(Registry.FLUID);
@@ -0,0 +1,19 @@
+package com.tterrag.registrate.mixin;
+
+import com.tterrag.registrate.providers.RegistrateDataProvider;
+import net.minecraft.data.HashCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(HashCache.class)
+public class HashCacheMixin {
+	@Inject(method = "applyUpdate", at = @At("HEAD"), cancellable = true)
+	private void registrate$keepCheckedCache(HashCache.UpdateResult result, CallbackInfo ci) {
+		// checked providers wrote nothing, keep their previous cache so it is neither rewritten nor purged
+		if (RegistrateDataProvider.isCheckOnly(result.providerId())) {
+			ci.cancel();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.tterrag.registrate.providers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.google.common.hash.HashCode;
+import com.tterrag.registrate.util.DebugMarkers;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.data.CachedOutput;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link CachedOutput} which hands files to a writer thread through a bounded queue, so providers can keep building JSON while earlier files are written. Providers block only once
+ * {@code capacity} files are waiting.
+ * <p>
+ * The writer drains the queue in batches and passes every file to the wrapped output, which skips files whose content hash is unchanged since the last run and creates missing directories
+ * itself. It is not thread-safe, so the writer is its only caller.
+ * <p>
+ * A capacity of 0 disables the queue, files are then written on the calling thread, one at a time.
+ * <p>
+ * Write errors are rethrown from the next {@link #writeIfNeeded(Path, byte[], HashCode)} and from {@link #close()}, which waits for every queued file to be written.
+ */
+@Log4j2
+class AsyncCachedOutput implements CachedOutput, AutoCloseable {
+
+    private static final int BATCH_SIZE = 64;
+
+    private record Write(Path path, byte[] data, HashCode hash) {}
+
+    private static final Write END = new Write(Path.of(""), new byte[0], HashCode.fromInt(0));
+
+    private final CachedOutput delegate;
+    @Nullable
+    private final BlockingQueue<Write> queue;
+    @Nullable
+    private final Thread writer;
+
+    @Nullable
+    private volatile IOException failure;
+    private int written;
+    private boolean closed;
+
+    AsyncCachedOutput(CachedOutput delegate, int capacity, String name) {
+        this.delegate = delegate;
+        if (capacity > 0) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.writer = new Thread(this::drain, name);
+            this.writer.setDaemon(true);
+            this.writer.start();
+        } else {
+            this.queue = null;
+            this.writer = null;
+        }
+    }
+
+    @Override
+    public void writeIfNeeded(Path path, byte[] data, HashCode hash) throws IOException {
+        rethrow();
+        if (queue == null) {
+            synchronized (delegate) {
+                delegate.writeIfNeeded(path, data, hash);
+            }
+            return;
+        }
+        try {
+            queue.put(new Write(path, data, hash));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queueing " + path);
+        }
+    }
+
+    private void drain() {
+        List<Write> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                boolean end = batch.remove(END);
+                write(batch);
+                batch.clear();
+                if (end) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<Write> batch) {
+        if (failure != null || batch.isEmpty()) {
+            // Keep draining, so producers never block on a dead writer
+            return;
+        }
+        try {
+            for (Write write : batch) {
+                delegate.writeIfNeeded(write.path(), write.data(), write.hash());
+            }
+            written += batch.size();
+        } catch (Throwable e) {
+            // Any failure, so the writer survives to keep draining and close() does not hang
+            failure = e instanceof IOException io ? io : new IOException(e);
+        }
+    }
+
+    private void rethrow() throws IOException {
+        IOException failure = this.failure;
+        if (failure != null) {
+            throw new IOException("Failed to write data", failure);
+        }
+    }
+
+    /**
+     * Wait for all queued files to be written.
+     *
+     * @throws IOException
+     *             If any file failed to be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (writer != null) {
+            try {
+                queue.put(END);
+                writer.join();
+            } catch (InterruptedException e) {
+                writer.interrupt();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be written");
+            }
+            log.debug(DebugMarkers.DATA, "Handed {} files to the cache on {}", written, writer.getName());
+        }
+        rethrow();
+    }
+}
@@ -0,0 +1,133 @@
+package com.tterrag.registrate.providers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.tterrag.registrate.util.DebugMarkers;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.data.CachedOutput;
+
+/**
+ * Check mode of data generation, enabled by {@code -Dregistrate.datagen.check}. Providers generate into memory, and the result is compared against the existing output tree, without writing to it.
+ * <p>
+ * A file is added if it does not exist yet, and changed if its content hash differs. A file is removed if it was written by this provider on the last run, according to its vanilla cache, but is
+ * not generated anymore, such as the outputs of deleted entries. Without a cache, e.g. before the first run, removed files cannot be told apart from those of other providers and are not reported.
+ * <p>
+ * The vanilla cache of a checked provider is left as it is, see {@link RegistrateDataProvider#isCheckOnly(String)}.
+ */
+@Log4j2
+class DatagenCheck implements CachedOutput {
+
+    private final Path outputFolder;
+    private final String modid;
+    private final String providerName;
+    private final Map<Path, HashCode> outputs = new ConcurrentHashMap<>();
+
+    private List<Path> added = Collections.emptyList();
+    private List<Path> changed = Collections.emptyList();
+    private List<Path> removed = Collections.emptyList();
+
+    DatagenCheck(Path outputFolder, String modid, String providerName) {
+        this.outputFolder = outputFolder;
+        this.modid = modid;
+        this.providerName = providerName;
+    }
+
+    @Override
+    public void writeIfNeeded(Path path, byte[] data, HashCode hash) {
+        outputs.put(path, hash);
+    }
+
+    /**
+     * Compare everything generated so far against the output tree, reading existing files in parallel.
+     *
+     * @return If the output tree matches
+     */
+    boolean compare() throws IOException {
+        Map<Boolean, List<Path>> existing;
+        try {
+            existing = outputs.entrySet().parallelStream().collect(Collectors.partitioningBy(e -> Files.isRegularFile(e.getKey()), Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+            changed = existing.get(true).parallelStream()
+                    .filter(path -> !hash(path).equals(outputs.get(path)))
+                    .sorted()
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        added = existing.get(false).stream().sorted().toList();
+        Set<Path> previous = findPreviousOutputs();
+        removed = previous.stream().filter(path -> !outputs.containsKey(path) && Files.isRegularFile(path)).sorted().toList();
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    private static HashCode hash(Path path) {
+        try {
+            return Hashing.sha1().hashBytes(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Set<Path> findPreviousOutputs() throws IOException {
+        Path ownCache = getCacheFile(outputFolder, providerName);
+        if (!Files.isRegularFile(ownCache)) {
+            log.info(DebugMarkers.DATA, "No previous cache for {}, removed files of {} cannot be detected", providerName, modid);
+        }
+        return readCache(outputFolder, ownCache);
+    }
+
+    /**
+     * @return The vanilla cache file of a provider, which may not exist
+     */
+    static Path getCacheFile(Path outputFolder, String providerName) {
+        return outputFolder.resolve(".cache").resolve(Hashing.sha1().hashString(providerName, StandardCharsets.UTF_8).toString());
+    }
+
+    /**
+     * Read the outputs listed in a vanilla cache file, a header line followed by lines of {@code <hash> <relative path>}.
+     * 
+     * @return The outputs, empty if the cache file does not exist
+     */
+    static Set<Path> readCache(Path outputFolder, Path cache) throws IOException {
+        Set<Path> ret = new HashSet<>();
+        if (!Files.isRegularFile(cache)) {
+            return ret;
+        }
+        List<String> lines = Files.readAllLines(cache, StandardCharsets.UTF_8);
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            int split = line.indexOf(' ');
+            if (split > 0) {
+                ret.add(outputFolder.resolve(line.substring(split + 1)));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Log every difference found by {@link #compare()}.
+     *
+     * @return A summary of the differences
+     */
+    String report() {
+        List<String> lines = new ArrayList<>();
+        added.forEach(path -> lines.add("  added:   " + outputFolder.relativize(path)));
+        changed.forEach(path -> lines.add("  changed: " + outputFolder.relativize(path)));
+        removed.forEach(path -> lines.add("  removed: " + outputFolder.relativize(path)));
+        log.error(DebugMarkers.DATA, "Generated data for {} does not match {}:\n{}", modid, outputFolder, String.join("\n", lines));
+        return added.size() + " added, " + changed.size() + " changed, " + removed.size() + " removed";
+    }
+}
@@ -0,0 +1,201 @@
+package com.tterrag.registrate.providers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.tterrag.registrate.util.DebugMarkers;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.core.Registry;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.resources.ResourceKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects timings of a data generation run, enabled by {@code -Dregistrate.datagen.profile}. The report is written to {@code .cache/registrate/<modid>-profile.json} in the output folder once
+ * all providers have run, and lists for each provider type and each entry the time spent in generators, and the number and size of files written, followed by the slowest generators.
+ * <p>
+ * Generators add to their provider rather than writing files, so a file is attributed to the entry of its type whose name matches the file name, and otherwise only counted for its type.
+ */
+@Log4j2
+public final class DatagenProfiler {
+
+    public static final boolean ENABLED = Boolean.getBoolean("registrate.datagen.profile");
+
+    private static final int SLOWEST = 20;
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private static class Stats {
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder generators = new LongAdder();
+        private final LongAdder outputs = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private JsonObject toJson() {
+            JsonObject ret = new JsonObject();
+            ret.addProperty("generatorMillis", TimeUnit.NANOSECONDS.toMicros(nanos.sum()) / 1000.0);
+            ret.addProperty("generators", generators.sum());
+            ret.addProperty("outputs", outputs.sum());
+            ret.addProperty("outputBytes", bytes.sum());
+            return ret;
+        }
+    }
+
+    private static class TypeStats extends Stats {
+        private final LongAdder wallNanos = new LongAdder();
+        /** By entry name, for attributing outputs */
+        private final Map<String, Stats> entries = new ConcurrentHashMap<>();
+    }
+
+    private record Sample(String type, @Nullable String entry, @Nullable String registry, int index, long nanos) {}
+
+    private final String modid;
+    private final Map<ProviderType<?>, TypeStats> types = new ConcurrentHashMap<>();
+    /** Entry stats by entry ID, then provider type name */
+    private final Map<String, Map<String, Stats>> entries = new ConcurrentHashMap<>();
+    /** The slowest generators so far, fastest first. Guarded by itself. */
+    private final PriorityQueue<Sample> slowest = new PriorityQueue<>(Comparator.comparingLong(Sample::nanos));
+
+    public DatagenProfiler(String modid) {
+        this.modid = modid;
+    }
+
+    private TypeStats getType(ProviderType<?> type) {
+        return types.computeIfAbsent(type, t -> new TypeStats());
+    }
+
+    /**
+     * Record a data generator having run.
+     *
+     * @param type
+     *            The type of the generator
+     * @param entry
+     *            The name of the entry the generator belongs to, or null if it is unassociated
+     * @param registry
+     *            The registry of the entry, or null if the generator is unassociated
+     * @param index
+     *            The index of the generator within its type
+     * @param nanos
+     *            The time the generator took
+     */
+    public void recordGenerator(ProviderType<?> type, @Nullable String entry, @Nullable ResourceKey<? extends Registry<?>> registry, int index, long nanos) {
+        TypeStats typeStats = getType(type);
+        typeStats.nanos.add(nanos);
+        typeStats.generators.increment();
+        String typeName = RegistrateDataProvider.getTypeName(type);
+        String registryName = registry == null ? null : registry.location().toString();
+        if (entry != null) {
+            Stats entryStats = entries.computeIfAbsent(modid + ":" + entry + " [" + registryName + "]", k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(typeName, k -> new Stats());
+            entryStats.nanos.add(nanos);
+            entryStats.generators.increment();
+            typeStats.entries.putIfAbsent(entry, entryStats);
+        }
+        synchronized (slowest) {
+            if (slowest.size() < SLOWEST || slowest.peek().nanos() < nanos) {
+                slowest.add(new Sample(typeName, entry, registryName, index, nanos));
+                if (slowest.size() > SLOWEST) {
+                    slowest.poll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Record a provider having run.
+     */
+    void recordProvider(ProviderType<?> type, long nanos) {
+        getType(type).wallNanos.add(nanos);
+    }
+
+    /**
+     * @return An output counting the files written by a provider
+     */
+    CachedOutput output(ProviderType<?> type, CachedOutput output) {
+        TypeStats typeStats = getType(type);
+        return (path, data, hash) -> {
+            output.writeIfNeeded(path, data, hash);
+            typeStats.outputs.increment();
+            typeStats.bytes.add(data.length);
+            String file = path.getFileName().toString();
+            int extension = file.indexOf('.');
+            Stats entryStats = typeStats.entries.get(extension < 0 ? file : file.substring(0, extension));
+            if (entryStats != null) {
+                entryStats.outputs.increment();
+                entryStats.bytes.add(data.length);
+            }
+        };
+    }
+
+    /**
+     * Write the report of everything recorded so far.
+     *
+     * @param outputFolder
+     *            The datagen output folder
+     */
+    void write(Path outputFolder) throws IOException {
+        JsonObject report = new JsonObject();
+        report.addProperty("modid", modid);
+
+        JsonObject typesJson = new JsonObject();
+        types.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparingLong((TypeStats s) -> s.wallNanos.sum()).reversed()))
+                .forEach(e -> {
+                    JsonObject json = e.getValue().toJson();
+                    json.addProperty("wallMillis", TimeUnit.NANOSECONDS.toMicros(e.getValue().wallNanos.sum()) / 1000.0);
+                    typesJson.add(RegistrateDataProvider.getTypeName(e.getKey()), json);
+                });
+        report.add("types", typesJson);
+
+        JsonObject entriesJson = new JsonObject();
+        entries.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparingLong((Map<String, Stats> m) -> m.values().stream().mapToLong(s -> s.nanos.sum()).sum()).reversed()))
+                .forEach(e -> {
+                    JsonObject json = new JsonObject();
+                    e.getValue().forEach((type, stats) -> json.add(type, stats.toJson()));
+                    entriesJson.add(e.getKey(), json);
+                });
+        report.add("entries", entriesJson);
+
+        List<Sample> samples;
+        synchronized (slowest) {
+            samples = new ArrayList<>(slowest);
+        }
+        samples.sort(Comparator.comparingLong(Sample::nanos).reversed());
+        JsonArray slowestJson = new JsonArray();
+        for (Sample sample : samples) {
+            JsonObject json = new JsonObject();
+            json.addProperty("type", sample.type());
+            if (sample.entry() != null) {
+                json.addProperty("entry", modid + ":" + sample.entry());
+                json.addProperty("registry", sample.registry());
+            }
+            json.addProperty("index", sample.index());
+            json.addProperty("millis", TimeUnit.NANOSECONDS.toMicros(sample.nanos()) / 1000.0);
+            slowestJson.add(json);
+        }
+        report.add("slowestGenerators", slowestJson);
+
+        Path file = outputFolder.resolve(".cache").resolve("registrate").resolve(modid + "-profile.json");
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(report, writer);
+        }
+        log.info(DebugMarkers.DATA, "Wrote datagen profile for {} to {}", modid, file);
+    }
+}
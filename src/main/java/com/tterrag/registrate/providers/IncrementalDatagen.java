@@ -0,0 +1,299 @@
+package com.tterrag.registrate.providers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.tterrag.registrate.AbstractRegistrate;
+import com.tterrag.registrate.util.DebugMarkers;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.data.CachedOutput;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The state of incremental datagen for one mod, enabled by {@code -Dregistrate.datagen.incremental}. Stores, per provider type, the fingerprint of each generator (see
+ * {@link AbstractRegistrate#getDataFingerprints(ProviderType)}) and the files written while it ran, as well as the files its provider wrote outside of any generator. Generators without a
+ * fingerprint always run.
+ * <p>
+ * Outputs are recorded through a {@link CachedOutput} scoped to each generator, so files written while a generator runs, e.g. recipes, belong to it. Files written once all generators have run,
+ * e.g. models and lang files, are shared by the whole type.
+ * <p>
+ * A type whose generators are all unchanged and whose outputs all exist is skipped, and its previous outputs are passed to the cache again, so they are not purged as stale. If only some
+ * generators changed, a type without shared outputs runs just those, reusing the outputs of the others. Types with shared outputs, and {@linkplain RegistrateProvider#isAggregate() aggregate}
+ * types, run all of their generators. A type that runs also runs every type that depends on it and all its dependencies in full, as providers may read each other (e.g. item models referencing
+ * block models).
+ */
+@Log4j2
+class IncrementalDatagen {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private static class GeneratorState {
+        private String fingerprint = "";
+        private List<String> outputs = new ArrayList<>();
+    }
+
+    private static class TypeState {
+        private Map<String, GeneratorState> generators = new TreeMap<>();
+        /** Files written outside of any generator */
+        private List<String> shared = new ArrayList<>();
+    }
+
+    /** The plan for a type */
+    private record Plan(Map<String, String> fingerprints, boolean run, Set<String> reused) {}
+
+    private final Path outputFolder;
+    private final Path stateFile;
+    private final Map<String, TypeState> previous;
+    private final Map<ProviderType<?>, Plan> plans = new HashMap<>();
+    /** Outputs of the types running by generator key, the empty key for shared outputs */
+    private final Map<String, Map<String, Set<String>>> written = new ConcurrentHashMap<>();
+
+    IncrementalDatagen(Path outputFolder, String modid) {
+        this.outputFolder = outputFolder;
+        this.stateFile = outputFolder.resolve(".cache").resolve("registrate").resolve(modid + ".json");
+        this.previous = load(stateFile);
+    }
+
+    private static Map<String, TypeState> load(Path stateFile) {
+        if (!Files.isRegularFile(stateFile)) {
+            return Collections.emptyMap();
+        }
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            Map<String, TypeState> ret = GSON.fromJson(reader, State.class).types;
+            // States of older versions lack per-generator data, so their types run once
+            ret.values().removeIf(state -> state.generators == null || state.shared == null);
+            return ret;
+        } catch (IOException | JsonParseException | NullPointerException e) {
+            log.warn(DebugMarkers.DATA, "Could not read incremental datagen state {}, regenerating everything", stateFile, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Decide which types and generators must run.
+     *
+     * @param order
+     *            All types, dependencies first
+     * @param fingerprints
+     *            The current fingerprint of each generator of each type, by generator key, {@code null} for generators which must always run
+     * @param partial
+     *            Which types may run only some of their generators
+     * @return The types to run, with the keys of the generators each of them may skip. All other types are {@linkplain #replay(ProviderType, CachedOutput) replayed}.
+     */
+    Map<ProviderType<?>, Set<String>> plan(List<ProviderType<?>> order, Map<ProviderType<?>, Map<String, String>> fingerprints, Predicate<ProviderType<?>> partial) {
+        Map<ProviderType<?>, Set<String>> reusable = new HashMap<>();
+        Set<ProviderType<?>> run = new HashSet<>();
+        Set<ProviderType<?>> full = new HashSet<>();
+        for (ProviderType<?> type : order) {
+            TypeState state = previous.get(RegistrateDataProvider.getTypeName(type));
+            Map<String, String> current = fingerprints.get(type);
+            Set<String> unchanged = new HashSet<>();
+            if (state != null) {
+                current.forEach((key, fingerprint) -> {
+                    GeneratorState generator = state.generators.get(key);
+                    if (fingerprint != null && generator != null && generator.fingerprint.equals(fingerprint) && outputsExist(generator.outputs)) {
+                        unchanged.add(key);
+                    }
+                });
+            }
+            reusable.put(type, unchanged);
+            if (state == null || unchanged.size() != current.size() || !state.generators.keySet().equals(current.keySet()) || !outputsExist(state.shared)) {
+                run.add(type);
+                if (state == null || !state.shared.isEmpty() || !partial.test(type)) {
+                    full.add(type);
+                }
+            }
+        }
+        // Until settled, as a dependency rerun in full may have further dependents
+        boolean changed;
+        do {
+            changed = false;
+            for (ProviderType<?> type : order) {
+                if (!full.contains(type) && type.getDependencies().stream().anyMatch(run::contains)) {
+                    changed |= run.add(type) | full.add(type);
+                }
+            }
+            for (int i = order.size() - 1; i >= 0; i--) {
+                ProviderType<?> type = order.get(i);
+                if (run.contains(type)) {
+                    for (ProviderType<?> dependency : type.getDependencies()) {
+                        if (order.contains(dependency)) {
+                            changed |= run.add(dependency) | full.add(dependency);
+                        }
+                    }
+                }
+            }
+        } while (changed);
+        Map<ProviderType<?>, Set<String>> ret = new HashMap<>();
+        int generators = 0;
+        int reused = 0;
+        for (ProviderType<?> type : order) {
+            Map<String, String> current = fingerprints.get(type);
+            Set<String> skip = !run.contains(type) ? current.keySet() : full.contains(type) ? Collections.<String> emptySet() : reusable.get(type);
+            plans.put(type, new Plan(current, run.contains(type), skip));
+            generators += current.size();
+            reused += skip.size();
+            if (run.contains(type)) {
+                ret.put(type, skip);
+            }
+        }
+        log.info(DebugMarkers.DATA, "Incremental datagen running {} of {} types, reusing the outputs of {} of {} generators", run.size(), order.size(), reused, generators);
+        return ret;
+    }
+
+    private boolean outputsExist(List<String> outputs) {
+        for (String output : outputs) {
+            if (!Files.isRegularFile(outputFolder.resolve(output))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pass the previous outputs a type reuses to the cache, as if it had written them again: all of them for a skipped type, otherwise those of the generators it skips.
+     */
+    void replay(ProviderType<?> type, CachedOutput cache) throws IOException {
+        String name = RegistrateDataProvider.getTypeName(type);
+        Plan plan = plans.get(type);
+        TypeState state = previous.get(name);
+        if (plan == null || state == null || plan.reused().isEmpty() && plan.run()) {
+            return;
+        }
+        List<String> outputs = new ArrayList<>();
+        for (String key : plan.reused()) {
+            outputs.addAll(state.generators.get(key).outputs);
+        }
+        if (!plan.run()) {
+            outputs.addAll(state.shared);
+        }
+        log.debug(DebugMarkers.DATA, "Reusing {} outputs of {} generators for type: {}", outputs.size(), plan.reused().size(), name);
+        replay(outputs, cache);
+    }
+
+    /**
+     * Pass the previous outputs of every type which is not planned to the cache, such as providers only created while others ran. If they run again they overwrite them.
+     */
+    void replayOthers(Collection<ProviderType<?>> planned, CachedOutput cache) throws IOException {
+        Set<String> names = new HashSet<>();
+        planned.forEach(type -> names.add(RegistrateDataProvider.getTypeName(type)));
+        for (Map.Entry<String, TypeState> e : previous.entrySet()) {
+            if (names.contains(e.getKey())) {
+                continue;
+            }
+            List<String> outputs = new ArrayList<>(e.getValue().shared);
+            e.getValue().generators.values().forEach(generator -> outputs.addAll(generator.outputs));
+            log.debug(DebugMarkers.DATA, "Reusing {} outputs for unplanned type: {}", outputs.size(), e.getKey());
+            replay(outputs, cache);
+        }
+    }
+
+    private void replay(List<String> outputs, CachedOutput cache) throws IOException {
+        for (String output : outputs) {
+            Path path = outputFolder.resolve(output);
+            if (Files.isRegularFile(path)) {
+                byte[] data = Files.readAllBytes(path);
+                cache.writeIfNeeded(path, data, Hashing.sha1().hashBytes(data));
+            }
+        }
+    }
+
+    /**
+     * @return A cache which records the outputs of a type running, in a {@linkplain #scope(Map, String) scope} per generator
+     */
+    CachedOutput record(ProviderType<?> type, CachedOutput cache) {
+        Plan plan = plans.get(type);
+        Map<String, Set<String>> outputs = new ConcurrentHashMap<>();
+        written.put(RegistrateDataProvider.getTypeName(type), outputs);
+        Map<String, CachedOutput> scopes = new ConcurrentHashMap<>();
+        return (path, data, hash) -> {
+            String key = AbstractRegistrate.getGeneratorKey();
+            // Generators added while the type runs were not planned, their outputs are shared like those of unplanned types
+            if (key == null || plan == null || !plan.fingerprints().containsKey(key)) {
+                key = "";
+            }
+            scopes.computeIfAbsent(key, k -> scope(outputs, k, cache)).writeIfNeeded(path, data, hash);
+        };
+    }
+
+    /**
+     * @return A cache which records the outputs of one generator, or the shared outputs of its type for the empty key
+     */
+    private CachedOutput scope(Map<String, Set<String>> outputs, String key, CachedOutput cache) {
+        Set<String> recorded = outputs.computeIfAbsent(key, k -> Collections.synchronizedSet(new TreeSet<>()));
+        return (path, data, hash) -> {
+            cache.writeIfNeeded(path, data, hash);
+            recorded.add(outputFolder.relativize(path).toString().replace('\\', '/'));
+        };
+    }
+
+    /**
+     * Write the state of this run, only called once every provider has succeeded.
+     */
+    void save() throws IOException {
+        State json = new State();
+        plans.forEach((type, plan) -> {
+            String name = RegistrateDataProvider.getTypeName(type);
+            TypeState last = previous.get(name);
+            Map<String, Set<String>> outputs = written.getOrDefault(name, Collections.emptyMap());
+            TypeState state = new TypeState();
+            plan.fingerprints().forEach((key, fingerprint) -> {
+                GeneratorState generator = new GeneratorState();
+                generator.fingerprint = fingerprint == null ? "" : fingerprint;
+                generator.outputs = plan.reused().contains(key) ? last.generators.get(key).outputs : copy(outputs.get(key));
+                state.generators.put(key, generator);
+            });
+            state.shared = plan.run() ? copy(outputs.get("")) : last.shared;
+            json.types.put(name, state);
+        });
+        written.forEach((name, outputs) -> {
+            if (!json.types.containsKey(name)) {
+                // Not planned, so without fingerprints it runs whenever it is planned next
+                TypeState state = new TypeState();
+                Set<String> all = new TreeSet<>();
+                outputs.values().forEach(set -> all.addAll(copy(set)));
+                state.shared = new ArrayList<>(all);
+                json.types.put(name, state);
+            }
+        });
+        previous.forEach(json.types::putIfAbsent);
+        Files.createDirectories(stateFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8)) {
+            GSON.toJson(json, writer);
+        }
+    }
+
+    private static List<String> copy(@Nullable Set<String> outputs) {
+        if (outputs == null) {
+            return new ArrayList<>();
+        }
+        synchronized (outputs) {
+            return new ArrayList<>(outputs);
+        }
+    }
+
+    private static class State {
+        private Map<String, TypeState> types = new TreeMap<>();
+    }
+}
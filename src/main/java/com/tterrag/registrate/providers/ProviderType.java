@@ -1,6 +1,7 @@
 package com.tterrag.registrate.providers;
 
 import java.util.Map;
+import java.util.Set;
 
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.providers.loot.RegistrateLootTableProvider;
@@ -37,17 +38,40 @@ public interface ProviderType<T extends RegistrateProvider> {
     public static final ProviderType<RegistrateAdvancementProvider> ADVANCEMENT = register("advancement", (p, i) -> new RegistrateAdvancementProvider(p, i.generator()));
     public static final ProviderType<RegistrateLootTableProvider> LOOT = register("loot", ((p, i) -> new RegistrateLootTableProvider(p, i.generator())));
     public static final ProviderType<RegistrateTagsProvider<Block>> BLOCK_TAGS = register("tags/block", type -> (p, g) -> new RegistrateTagsProvider<Block>(p, type, "blocks", g.generator(), Registry.BLOCK));
-    public static final ProviderType<RegistrateItemTagsProvider> ITEM_TAGS = registerDelegate("tags/item", type -> (p, g, existing) -> new RegistrateItemTagsProvider(p, type, "items", g.generator(), (RegistrateTagsProvider<Block>)existing.get(BLOCK_TAGS)));
+    public static final ProviderType<RegistrateItemTagsProvider> ITEM_TAGS = dependsOn(registerDelegate("tags/item", type -> (p, g, existing) -> new RegistrateItemTagsProvider(p, type, "items", g.generator(), (RegistrateTagsProvider<Block>)existing.get(BLOCK_TAGS))), BLOCK_TAGS);
     public static final ProviderType<RegistrateTagsProvider<Fluid>> FLUID_TAGS = register("tags/fluid", type -> (p, g) -> new RegistrateTagsProvider<Fluid>(p, type, "fluids", g.generator(), Registry.FLUID));
     public static final ProviderType<RegistrateTagsProvider<EntityType<?>>> ENTITY_TAGS = register("tags/entity", type -> (p, g) -> new RegistrateTagsProvider<EntityType<?>>(p, type, "entity_types", g.generator(), Registry.ENTITY_TYPE));
 
     // CLIENT DATA
     public static final ProviderType<RegistrateBlockstateProvider> BLOCKSTATE = register("blockstate", (p, i) -> new RegistrateBlockstateProvider(p, i.generator(), i.helper()));
-    public static final ProviderType<RegistrateItemModelProvider> ITEM_MODEL = register("item_model", (p, i, existing) -> new RegistrateItemModelProvider(p, i.generator(), ((RegistrateBlockstateProvider)existing.get(BLOCKSTATE)).getExistingFileHelper()));
-    public static final ProviderType<RegistrateLangProvider> LANG = register("lang", (p, i) -> new RegistrateLangProvider(p, i.generator()));
+    public static final ProviderType<RegistrateItemModelProvider> ITEM_MODEL = dependsOn(register("item_model", (p, i, existing) -> new RegistrateItemModelProvider(p, i.generator(), ((RegistrateBlockstateProvider)existing.get(BLOCKSTATE)).getExistingFileHelper())), BLOCKSTATE);
+    // Advancements add their titles and descriptions to the lang provider
+    public static final ProviderType<RegistrateLangProvider> LANG = dependsOn(register("lang", (p, i) -> new RegistrateLangProvider(p, i.generator())), ADVANCEMENT);
 
     T create(AbstractRegistrate<?> parent, RegistrateDataProvider.DataInfo info, Map<ProviderType<?>, RegistrateProvider> existing);
 
+    /**
+     * @return The types whose providers must finish running before the provider of this type is run. Providers of unrelated types may run concurrently.
+     */
+    default Set<ProviderType<?>> getDependencies() {
+        return RegistrateDataProvider.getDependencies(this);
+    }
+
+    /**
+     * Declare that the provider of a type must run after the providers of some other types, e.g. as it reads data they generate.
+     *
+     * @param type
+     *            The dependent type
+     * @param dependencies
+     *            The types it depends on
+     * @return The dependent type
+     */
+    @NotNull
+    static <T extends RegistrateProvider> ProviderType<T> dependsOn(ProviderType<T> type, ProviderType<?>... dependencies) {
+        RegistrateDataProvider.addDependencies(type, dependencies);
+        return type;
+    }
+
     // TODO this is clunky af
     @NotNull
     static <T extends RegistrateProvider> ProviderType<T> registerDelegate(String name, NonNullUnaryOperator<ProviderType<T>> type) {
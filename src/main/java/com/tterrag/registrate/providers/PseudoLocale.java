@@ -0,0 +1,48 @@
+package com.tterrag.registrate.providers;
+
+/**
+ * A locale generated from the {@code en_us} translations of {@link RegistrateLangProvider}, for testing localization without translators. Configured per registrate via
+ * {@link com.tterrag.registrate.AbstractRegistrate#pseudoLocales(PseudoLocale...)}.
+ * <p>
+ * Format arguments such as {@code %s} and {@code %1$d} are kept intact by the built-in locales.
+ */
+public interface PseudoLocale {
+
+    /**
+     * English, upside down. Characters are flipped and the text is reversed.
+     */
+    PseudoLocale UPSIDE_DOWN = new TablePseudoLocale("en_ud",
+            /* lowercase */ "abcdefghijklmn\u00F1opqrstuvwxyz" +
+            /* uppercase */ "ABCDEFGHIJKLMNOPQRSTUVWXYZ" +
+            /*  numbers  */ "0123456789" +
+            /*  special  */ "_,;.?!/\\'",
+            /* lowercase */ "\u0250q\u0254p\u01DD\u025Fb\u0265\u0131\u0638\u029E\u05DF\u026Fuuodb\u0279s\u0287n\u028C\u028Dx\u028Ez" +
+            /* uppercase */ "\u2C6F\u15FA\u0186\u15E1\u018E\u2132\u2141HI\u017F\u029E\uA780WNO\u0500\u1F49\u1D1AS\u27D8\u2229\u039BMX\u028EZ" +
+            /*  numbers  */ "0\u0196\u1105\u0190\u3123\u03DB9\u312586" +
+            /*  special  */ "\u203E'\u061B\u02D9\u00BF\u00A1/\\,",
+            true, 0);
+
+    /**
+     * English with accented letters, bracketed and padded to 130% of its length, to find untranslated text and text truncated by the UI.
+     */
+    PseudoLocale ACCENTED = new TablePseudoLocale("en_xa",
+            /* lowercase */ "abcdefghijklmnopqrstuvwxyz" +
+            /* uppercase */ "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+            /* lowercase */ "\u0227\u0180\u0188\u1E13\u1E17\u0192\u0260\u0127\u012B\u0135\u0137\u0140\u1E3F\u019E\u01FF\u01A5\u024B\u0159\u015F\u0167\u016D\u1E7D\u1E87\u1E8B\u1E8F\u1E91" +
+            /* uppercase */ "\u0226\u0181\u0187\u1E12\u1E16\u0191\u0193\u0126\u012A\u0134\u0136\u013F\u1E3E\u0220\u01FE\u01A4\u024A\u0158\u015E\u0166\u016C\u1E7C\u1E86\u1E8A\u1E8E\u1E90",
+            false, 0.3f);
+
+    /**
+     * @return The locale code, which names the generated lang file
+     */
+    String getLocale();
+
+    /**
+     * Convert an {@code en_us} translation. May be called concurrently.
+     *
+     * @param value
+     *            The translation
+     * @return The translation in this locale
+     */
+    String apply(String value);
+}
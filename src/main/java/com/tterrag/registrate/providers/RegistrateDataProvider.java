@@ -1,18 +1,38 @@
 package com.tterrag.registrate.providers;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.hash.Hashing;
 import com.tterrag.registrate.AbstractRegistrate;
 import com.tterrag.registrate.util.DebugMarkers;
-import com.tterrag.registrate.util.nullness.NonnullType;
 
 import lombok.extern.log4j.Log4j2;
 import net.minecraft.data.CachedOutput;
@@ -30,18 +50,109 @@ public class RegistrateDataProvider implements DataProvider {
     @SuppressWarnings("null")
     static final BiMap<String, ProviderType<?>> TYPES = HashBiMap.create();
     
+    /** Guarded by itself */
+    private static final SetMultimap<ProviderType<?>, ProviderType<?>> DEPENDENCIES = LinkedHashMultimap.create();
+
+    /** The number of threads running providers concurrently, 1 to run them one at a time */
+    private static final int THREADS = Math.max(1, Integer.getInteger("registrate.datagen.threads", Runtime.getRuntime().availableProcessors()));
+
+    /** Whether to skip types whose generators are unchanged since the last run, see {@link IncrementalDatagen} */
+    private static final boolean INCREMENTAL = Boolean.getBoolean("registrate.datagen.incremental");
+
+    /** Whether to compare generated data against the existing output instead of writing it, see {@link DatagenCheck} */
+    private static final boolean CHECK = Boolean.getBoolean("registrate.datagen.check");
+
+    /** The number of files which may wait to be written before providers block, 0 to write them on the provider threads, see {@link AsyncCachedOutput} */
+    private static final int WRITE_QUEUE = Math.max(0, Integer.getInteger("registrate.datagen.writeQueue", 1024));
+
     public static @Nullable String getTypeName(ProviderType<?> type) {
         return TYPES.inverse().get(type);
     }
 
+    static Set<ProviderType<?>> getDependencies(ProviderType<?> type) {
+        synchronized (DEPENDENCIES) {
+            return ImmutableSet.copyOf(DEPENDENCIES.get(type));
+        }
+    }
+
+    static void addDependencies(ProviderType<?> type, ProviderType<?>... dependencies) {
+        synchronized (DEPENDENCIES) {
+            DEPENDENCIES.putAll(type, Arrays.asList(dependencies));
+        }
+    }
+
+    /** The provider types to run, by name, or empty to run all of them */
+    private static final Set<String> TYPE_FILTER = parseFilter("registrate.datagen.types");
+    /** The entries to run generators of, by name, or empty to run all of them */
+    private static final Set<String> ENTRY_FILTER = parseFilter("registrate.datagen.entries");
+
+    private static Set<String> parseFilter(String property) {
+        String value = System.getProperty(property, "");
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(ImmutableSet.toImmutableSet());
+    }
+
+    /**
+     * For internal use, whether generators of an entry should run, according to {@code -Dregistrate.datagen.entries}. Generators not associated with an entry always run.
+     * 
+     * @param entry
+     *            The name of the entry, or null if the generator is unassociated
+     * @return If the generator should run
+     */
+    public static boolean isEntrySelected(@Nullable String entry) {
+        return entry == null || CHECK || ENTRY_FILTER.isEmpty() || ENTRY_FILTER.contains(entry);
+    }
+
+    /** Names of the providers run in check mode */
+    private static final Set<String> CHECKED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * For internal use, whether the vanilla cache of a provider must be left as it is, as the provider only checked the existing output in {@linkplain #run(CachedOutput) check mode}. Its
+     * previous cache is kept, so the cache file is not rewritten and none of its outputs are purged.
+     * 
+     * @param providerName
+     *            The {@linkplain DataProvider#getName() name} of the provider
+     * @return If the provider is a registrate provider run in check mode
+     */
+    public static boolean isCheckOnly(String providerName) {
+        return CHECK && CHECKED.contains(providerName);
+    }
+
+    private static boolean isFiltered() {
+        return !CHECK && (!TYPE_FILTER.isEmpty() || !ENTRY_FILTER.isEmpty());
+    }
+
+    private final AbstractRegistrate<?> parent;
     private final String mod;
+    private final Path outputFolder;
+    private final DataInfo info;
+    private final EnumSet<EnvType> sides = EnumSet.noneOf(EnvType.class);
+    /** Every provider created so far, guarded by itself */
+    private final Map<ProviderType<?>, RegistrateProvider> created = new HashMap<>();
+    /** The created providers of the included sides, which run. Guarded by {@link #created}. */
     private final Map<ProviderType<?>, RegistrateProvider> subProviders = new LinkedHashMap<>();
+    /** Passed to {@link ProviderType#create(AbstractRegistrate, DataInfo, Map)}, creating providers as they are looked up */
+    private final Map<ProviderType<?>, RegistrateProvider> createdView = new AbstractMap<>() {
+
+        @Override
+        public @Nullable RegistrateProvider get(Object key) {
+            return key instanceof ProviderType<?> type ? getOrCreate(type) : null;
+        }
+
+        @Override
+        public Set<Map.Entry<ProviderType<?>, RegistrateProvider>> entrySet() {
+            synchronized (created) {
+                return ImmutableSet.copyOf(created.entrySet());
+            }
+        }
+    };
 
     record DataInfo(FabricDataGenerator generator, ExistingFileHelper helper) {}
 
     public RegistrateDataProvider(AbstractRegistrate<?> parent, String modid, FabricDataGenerator generator, ExistingFileHelper helper) {
+        this.parent = parent;
         this.mod = modid;
-        EnumSet<EnvType> sides = EnumSet.noneOf(EnvType.class);
+        this.outputFolder = generator.getOutputFolder();
+        this.info = new DataInfo(generator, helper);
 //        if (event.includeServer()) {
             sides.add(EnvType.SERVER);
 //        }
@@ -49,34 +160,319 @@ public class RegistrateDataProvider implements DataProvider {
             sides.add(EnvType.CLIENT);
 //        }
         
+        if (CHECK) {
+            CHECKED.add(getName());
+        }
         log.debug(DebugMarkers.DATA, "Gathering providers for sides: {}", sides);
-        Map<ProviderType<?>, RegistrateProvider> known = new HashMap<>();
         for (String id : TYPES.keySet()) {
             ProviderType<?> type = TYPES.get(id);
-            RegistrateProvider prov = type.create(parent, new DataInfo(generator, helper), known);
-            known.put(type, prov);
+            if (!parent.hasDataGenerators(type)) {
+                log.debug(DebugMarkers.DATA, "Skipping provider without generators for type: {}", id);
+            } else if (!CHECK && !TYPE_FILTER.isEmpty() && !TYPE_FILTER.contains(id)) {
+                log.debug(DebugMarkers.DATA, "Skipping filtered provider for type: {}", id);
+            } else {
+                getOrCreate(type);
+            }
+        }
+        // Advancements add their titles and descriptions to the lang provider while they run, which may have no generators of its own yet
+        if (isCreated(ProviderType.ADVANCEMENT) && (CHECK || TYPE_FILTER.isEmpty() || TYPE_FILTER.contains(getTypeName(ProviderType.LANG)))) {
+            getOrCreate(ProviderType.LANG);
+        }
+    }
+
+    private boolean isCreated(ProviderType<?> type) {
+        synchronized (created) {
+            return created.containsKey(type);
+        }
+    }
+
+    /**
+     * Create the provider of a type, and first those of its dependencies, if not created yet.
+     */
+    private RegistrateProvider getOrCreate(ProviderType<?> type) {
+        synchronized (created) {
+            RegistrateProvider prov = created.get(type);
+            if (prov != null) {
+                return prov;
+            }
+            for (ProviderType<?> dependency : type.getDependencies()) {
+                getOrCreate(dependency);
+            }
+            prov = type.create(parent, info, createdView);
+            created.put(type, prov);
             if (sides.contains(prov.getSide())) {
-                log.debug(DebugMarkers.DATA, "Adding provider for type: {}", id);
+                log.debug(DebugMarkers.DATA, "Adding provider for type: {}", getTypeName(type));
                 subProviders.put(type, prov);
             }
+            return prov;
         }
     }
 
+    /**
+     * Run all providers. Providers run as soon as the providers of their {@linkplain ProviderType#getDependencies() dependencies} have finished, on up to {@code registrate.datagen.threads}
+     * threads (by default, one per processor). Files are written in the background, by a single writer.
+     * <p>
+     * Each provider writes its own files, so the output does not depend on scheduling. If any providers fail, the error of the first in registration order is thrown, with the others suppressed.
+     * <p>
+     * With {@code -Dregistrate.datagen.check}, nothing is written, not even the vanilla cache. Generated data is compared against the output folder instead, and any difference fails the run, see
+     * {@link DatagenCheck}.
+     * <p>
+     * With {@code -Dregistrate.datagen.profile}, a report of where the time went is written once all providers have run, see {@link DatagenProfiler}.
+     * <p>
+     * With {@code -Dregistrate.datagen.incremental}, types and generators which are unchanged since the last successful run reuse their previous outputs instead, see {@link IncrementalDatagen}.
+     * <p>
+     * With {@code -Dregistrate.datagen.types} or {@code -Dregistrate.datagen.entries}, comma separated lists of provider type and entry names, only the selected types (and their dependencies)
+     * and the generators of the selected entries run. Files written by the last run are kept, so nothing is purged. {@linkplain RegistrateProvider#isAggregate() Aggregate} providers, such as
+     * lang and tags, are skipped when filtering by entry, keeping their previous files. Filters are ignored in check mode, and disable incremental datagen.
+     */
     @Override
     public void run(CachedOutput cache) throws IOException {
-        for (Map.Entry<@NonnullType ProviderType<?>, RegistrateProvider> e : subProviders.entrySet()) {
-            log.debug(DebugMarkers.DATA, "Generating data for type: {}", getTypeName(e.getKey()));
-            e.getValue().run(cache);
+        List<ProviderType<?>> order = sortByDependencies();
+        if (CHECK) {
+            check(order);
+            return;
+        }
+        IncrementalDatagen incremental = INCREMENTAL && !isFiltered() ? new IncrementalDatagen(outputFolder, mod) : null;
+        try (AsyncCachedOutput output = new AsyncCachedOutput(cache, WRITE_QUEUE, "Registrate Writer " + mod)) {
+            Set<ProviderType<?>> toRun = new HashSet<>(order);
+            if (isFiltered()) {
+                keepPreviousOutputs(output);
+            }
+            if (incremental != null) {
+                Map<ProviderType<?>, Map<String, String>> fingerprints = new HashMap<>();
+                for (ProviderType<?> type : order) {
+                    fingerprints.put(type, parent.getDataFingerprints(type));
+                }
+                Map<ProviderType<?>, Set<String>> plan = incremental.plan(order, fingerprints, type -> !getProvider(type).isAggregate());
+                toRun = new HashSet<>(plan.keySet());
+                for (ProviderType<?> type : order) {
+                    parent.skipDataGenerators(type, plan.getOrDefault(type, Collections.emptySet()));
+                    incremental.replay(type, output);
+                }
+                incremental.replayOthers(order, output);
+            }
+            runProviders(order, toRun, incremental, output);
+        }
+        if (incremental != null) {
+            incremental.save();
+        }
+        DatagenProfiler profiler = parent.getDatagenProfiler();
+        if (profiler != null) {
+            profiler.write(outputFolder);
         }
     }
 
+    /**
+     * Pass the files written by the last run, according to the vanilla cache, to the output again, so a filtered run does not purge the outputs of the providers it skips. Providers that do run
+     * overwrite them.
+     */
+    private void keepPreviousOutputs(CachedOutput output) throws IOException {
+        Set<Path> previous = DatagenCheck.readCache(outputFolder, DatagenCheck.getCacheFile(outputFolder, getName()));
+        log.debug(DebugMarkers.DATA, "Filtered run, keeping {} previous outputs", previous.size());
+        for (Path path : previous) {
+            if (Files.isRegularFile(path)) {
+                byte[] data = Files.readAllBytes(path);
+                output.writeIfNeeded(path, data, Hashing.sha1().hashBytes(data));
+            }
+        }
+    }
+
+    /**
+     * Generate everything into memory and compare it against the output folder, failing if anything differs.
+     */
+    private void check(List<ProviderType<?>> order) throws IOException {
+        DatagenCheck check = new DatagenCheck(outputFolder, mod, getName());
+        runProviders(order, new HashSet<>(order), null, check);
+        if (!check.compare()) {
+            throw new IllegalStateException("Generated data for " + mod + " is out of date (" + check.report() + "), run data generation to update it");
+        }
+        log.info(DebugMarkers.DATA, "Generated data for {} is up to date", mod);
+    }
+
+    /**
+     * Run providers, then any created while they ran, e.g. by a generator {@linkplain AbstractRegistrate#getDataProvider(ProviderType) looking up} a type without generators of its own.
+     * 
+     * @param output
+     *            The output, safe to write to from any thread
+     */
+    private void runProviders(List<ProviderType<?>> order, Set<ProviderType<?>> toRun, @Nullable IncrementalDatagen incremental, CachedOutput output) throws IOException {
+        runBatch(order, skipAggregates(toRun), incremental, output);
+        Set<ProviderType<?>> ran = new HashSet<>(order);
+        List<ProviderType<?>> late = sortByDependencies();
+        late.removeAll(ran);
+        while (!late.isEmpty()) {
+            log.debug(DebugMarkers.DATA, "Running {} providers created during data generation", late.size());
+            // Dependencies outside the batch have run already, those within it are ordered as usual
+            runBatch(late, skipAggregates(new HashSet<>(late)), incremental, output);
+            ran.addAll(late);
+            late = sortByDependencies();
+            late.removeAll(ran);
+        }
+    }
+
+    /**
+     * Remove {@linkplain RegistrateProvider#isAggregate() aggregate} types when filtering by entry, their previous files are kept instead.
+     */
+    private Set<ProviderType<?>> skipAggregates(Set<ProviderType<?>> toRun) {
+        if (CHECK || ENTRY_FILTER.isEmpty()) {
+            return toRun;
+        }
+        Set<ProviderType<?>> ret = new HashSet<>(toRun);
+        ret.removeIf(this::isAggregate);
+        return ret;
+    }
+
+    private RegistrateProvider getProvider(ProviderType<?> type) {
+        synchronized (created) {
+            return subProviders.get(type);
+        }
+    }
+
+    private boolean isAggregate(ProviderType<?> type) {
+        if (getProvider(type).isAggregate()) {
+            log.debug(DebugMarkers.DATA, "Skipping aggregate provider for type {} under entry filter, keeping its previous outputs", getTypeName(type));
+            return true;
+        }
+        return false;
+    }
+
+    private void runBatch(List<ProviderType<?>> order, Set<ProviderType<?>> toRun, @Nullable IncrementalDatagen incremental, CachedOutput output) throws IOException {
+        int threads = Math.min(THREADS, toRun.size());
+        if (threads <= 1) {
+            for (ProviderType<?> type : order) {
+                if (toRun.contains(type)) {
+                    runProvider(type, incremental == null ? output : incremental.record(type, output));
+                }
+            }
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "Registrate Datagen " + mod + " #" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Map<ProviderType<?>, Throwable> failures = new ConcurrentHashMap<>();
+        Map<ProviderType<?>, CompletableFuture<Void>> tasks = new HashMap<>();
+        try {
+            for (ProviderType<?> type : order) {
+                if (!toRun.contains(type)) {
+                    continue;
+                }
+                CachedOutput typeOutput = incremental == null ? output : incremental.record(type, output);
+                CompletableFuture<?>[] dependencies = type.getDependencies().stream()
+                        .map(tasks::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                tasks.put(type, CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                    try {
+                        runProvider(type, typeOutput);
+                    } catch (IOException e) {
+                        failures.put(type, e);
+                        throw new UncheckedIOException(e);
+                    } catch (RuntimeException | Error e) {
+                        failures.put(type, e);
+                        throw e;
+                    }
+                }, executor));
+            }
+            try {
+                CompletableFuture.allOf(tasks.values().toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                // Reported below, in a deterministic order
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        List<ProviderType<?>> registrationOrder;
+        synchronized (created) {
+            registrationOrder = new ArrayList<>(subProviders.keySet());
+        }
+        Throwable error = null;
+        for (ProviderType<?> type : registrationOrder) {
+            Throwable failure = failures.get(type);
+            if (failure == null) {
+                continue;
+            }
+            if (error == null) {
+                error = failure;
+            } else {
+                error.addSuppressed(failure);
+            }
+        }
+        if (error instanceof IOException e) {
+            throw e;
+        } else if (error instanceof RuntimeException e) {
+            throw e;
+        } else if (error instanceof Error e) {
+            throw e;
+        }
+    }
+
+    private void runProvider(ProviderType<?> type, CachedOutput cache) throws IOException {
+        log.debug(DebugMarkers.DATA, "Generating data for type: {}", getTypeName(type));
+        RegistrateProvider provider = getProvider(type);
+        DatagenProfiler profiler = parent.getDatagenProfiler();
+        if (profiler == null) {
+            provider.run(cache);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            provider.run(profiler.output(type, cache));
+        } finally {
+            profiler.recordProvider(type, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return The types of all providers, in registration order except where a type must follow its dependencies
+     */
+    private List<ProviderType<?>> sortByDependencies() {
+        Set<ProviderType<?>> types;
+        synchronized (created) {
+            types = new LinkedHashSet<>(subProviders.keySet());
+        }
+        List<ProviderType<?>> ret = new ArrayList<>(types.size());
+        Set<ProviderType<?>> visiting = new HashSet<>();
+        Set<ProviderType<?>> visited = new HashSet<>();
+        for (ProviderType<?> type : types) {
+            visit(type, types, visiting, visited, ret);
+        }
+        return ret;
+    }
+
+    private void visit(ProviderType<?> type, Set<ProviderType<?>> types, Set<ProviderType<?>> visiting, Set<ProviderType<?>> visited, List<ProviderType<?>> order) {
+        if (visited.contains(type) || !types.contains(type)) {
+            return;
+        }
+        if (!visiting.add(type)) {
+            throw new IllegalStateException("Cyclic data provider dependency involving type: " + getTypeName(type));
+        }
+        for (ProviderType<?> dependency : type.getDependencies()) {
+            visit(dependency, types, visiting, visited, order);
+        }
+        visiting.remove(type);
+        visited.add(type);
+        order.add(type);
+    }
+
+    /**
+     * Not derived from the providers created, which depend on the generators registered and any filters, as it also names the vanilla cache of this provider.
+     */
     @Override
     public String getName() {
-        return "Registrate Provider for " + mod + " [" + subProviders.values().stream().map(DataProvider::getName).collect(Collectors.joining(", ")) + "]";
+        return "Registrate Provider for " + mod;
     }
 
+    /**
+     * Get the provider of a type, creating it if needed. Providers created while data generation is running run once the others have finished.
+     */
     @SuppressWarnings("unchecked")
     public <P extends RegistrateProvider> Optional<P> getSubProvider(ProviderType<P> type) {
-        return Optional.ofNullable((P) subProviders.get(type));
+        getOrCreate(type);
+        synchronized (created) {
+            return Optional.ofNullable((P) subProviders.get(type));
+        }
     }
 }
@@ -1,12 +1,15 @@
 package com.tterrag.registrate.providers;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.tterrag.registrate.fabric.BaseLangProvider;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
+import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
 import net.fabricmc.api.EnvType;
 import net.minecraft.data.CachedOutput;
 import net.minecraft.world.effect.MobEffect;
@@ -29,20 +32,31 @@ import net.minecraft.world.level.block.Block;
 
 public class RegistrateLangProvider extends BaseLangProvider implements RegistrateProvider {
     
-    private static class AccessibleLanguageProvider extends BaseLangProvider {
-        public AccessibleLanguageProvider(FabricDataGenerator gen, String locale) {
-            super(gen, locale);
+    /** Writes one pseudo-locale, converted from a snapshot of the English translations */
+    private static class PseudoLocaleProvider extends FabricLanguageProvider {
+
+        private final PseudoLocale locale;
+        private Map<String, String> english = Collections.emptyMap();
+
+        PseudoLocaleProvider(FabricDataGenerator gen, PseudoLocale locale) {
+            super(gen, locale.getLocale());
+            this.locale = locale;
+        }
+
+        @Override
+        public void generateTranslations(TranslationBuilder translationBuilder) {
+            english.forEach((key, value) -> translationBuilder.add(key, locale.apply(value)));
         }
     }
     
     private final AbstractRegistrate<?> owner;
     
-    private final AccessibleLanguageProvider upsideDown;
+    private final List<PseudoLocaleProvider> pseudoLocales;
 
     public RegistrateLangProvider(AbstractRegistrate<?> owner, FabricDataGenerator gen) {
         super(gen, "en_us");
         this.owner = owner;
-        this.upsideDown = new AccessibleLanguageProvider(gen, "en_ud");
+        this.pseudoLocales = owner.getPseudoLocales().stream().map(locale -> new PseudoLocaleProvider(gen, locale)).toList();
     }
 
     @Override
@@ -52,7 +66,17 @@ public class RegistrateLangProvider extends BaseLangProvider implements Registra
     
     @Override
     public String getName() {
-        return "Lang (en_us/en_ud)";
+        return "Lang (" + Stream.concat(Stream.of("en_us"), owner.getPseudoLocales().stream().map(PseudoLocale::getLocale)).collect(Collectors.joining("/")) + ")";
+    }
+
+    @Override
+    public boolean isParallelSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isAggregate() {
+        return true;
     }
 
     @Override
@@ -118,61 +142,27 @@ public class RegistrateLangProvider extends BaseLangProvider implements Registra
         addEntityType(entity, getAutomaticName(entity, Registry.ENTITY_TYPE_REGISTRY));
     }
 
-    // Automatic en_ud generation
-
-    private static final String NORMAL_CHARS =
-            /* lowercase */ "abcdefghijklmn\u00F1opqrstuvwxyz" +
-            /* uppercase */ "ABCDEFGHIJKLMNOPQRSTUVWXYZ" +
-            /*  numbers  */ "0123456789" +
-            /*  special  */ "_,;.?!/\\'";
-    private static final String UPSIDE_DOWN_CHARS =
-            /* lowercase */ "\u0250q\u0254p\u01DD\u025Fb\u0265\u0131\u0638\u029E\u05DF\u026Fuuodb\u0279s\u0287n\u028C\u028Dx\u028Ez" +
-            /* uppercase */ "\u2C6F\u15FA\u0186\u15E1\u018E\u2132\u2141HI\u017F\u029E\uA780WNO\u0500\u1F49\u1D1AS\u27D8\u2229\u039BMX\u028EZ" +
-            /*  numbers  */ "0\u0196\u1105\u0190\u3123\u03DB9\u312586" +
-            /*  special  */ "\u203E'\u061B\u02D9\u00BF\u00A1/\\,";
-
-    static {
-        if (NORMAL_CHARS.length() != UPSIDE_DOWN_CHARS.length()) {
-            throw new AssertionError("Char maps do not match in length!");
-        }
-    }
-
-    private String toUpsideDown(String normal) {
-        char[] ud = new char[normal.length()];
-        for (int i = 0; i < normal.length(); i++) {
-            char c = normal.charAt(i);
-            if (c == '%') {
-                String fmtArg = "";
-                while (Character.isDigit(c) || c == '%' || c == '$' || c == 's' || c == 'd') { // TODO this is a bit lazy
-                    fmtArg += c;
-                    i++;
-                    c = i == normal.length() ? 0 : normal.charAt(i);
-                }
-                i--;
-                for (int j = 0; j < fmtArg.length(); j++) {
-                    ud[normal.length() - 1 - i + j] = fmtArg.charAt(j);
-                }
-                continue;
-            }
-            int lookup = NORMAL_CHARS.indexOf(c);
-            if (lookup >= 0) {
-                c = UPSIDE_DOWN_CHARS.charAt(lookup);
-            }
-            ud[normal.length() - 1 - i] = c;
-        }
-        return new String(ud);
-    }
-
-    @Override
-    public void add(String key, String value) {
-        super.add(key, value);
-        upsideDown.add(key, toUpsideDown(value));
-    }
+    // Automatic pseudo-locale generation, see PseudoLocale
 
+    /**
+     * Write {@code en_us}, then every pseudo-locale of the owning registrate, concurrently, each converted from the complete English translations.
+     */
     @Override
     public void run(CachedOutput cache) throws IOException {
         super.run(cache);
-        upsideDown.run(cache);
+        Map<String, String> english = getEntries();
+        try {
+            pseudoLocales.parallelStream().forEach(provider -> {
+                provider.english = english;
+                try {
+                    provider.run(cache);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     // helper methods from forge
@@ -7,4 +7,20 @@ import net.fabricmc.api.EnvType;
 public interface RegistrateProvider extends DataProvider {
     
     EnvType getSide();
+
+    /**
+     * @return {@code true} if data generators of this provider may run concurrently, when {@link com.tterrag.registrate.AbstractRegistrate#parallelDatagen(boolean) parallel datagen} is
+     *         enabled. The provider must accept concurrent calls from generators, and produce the same output regardless of their order.
+     */
+    default boolean isParallelSafe() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} if files of this provider combine the data of many entries, such as lang files and tags. Such providers are skipped when only the generators of
+     *         {@linkplain RegistrateDataProvider#run(net.minecraft.data.CachedOutput) selected entries} run, as their files would be overwritten with a subset of the data.
+     */
+    default boolean isAggregate() {
+        return false;
+    }
 }
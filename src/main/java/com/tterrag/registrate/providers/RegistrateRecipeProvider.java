@@ -65,7 +65,15 @@ public class RegistrateRecipeProvider extends FabricRecipeProvider implements Re
         if (callback == null) {
             throw new IllegalStateException("Cannot accept recipes outside of a call to registerRecipes");
         }
-        callback.accept(t);
+        // Recipes may be generated concurrently, the vanilla callback tracks seen recipes in a plain set
+        synchronized (this) {
+            callback.accept(t);
+        }
+    }
+
+    @Override
+    public boolean isParallelSafe() {
+        return true;
     }
 
     @Override
@@ -38,6 +38,11 @@ public class RegistrateTagsProvider<T> extends FabricTagProvider<T> implements R
         return EnvType.SERVER;
     }
 
+    @Override
+    public boolean isAggregate() {
+        return true;
+    }
+
     @Override
     public FabricTagBuilder<T> tag(TagKey<T> tag) { return super.getOrCreateTagBuilder(tag); }
 
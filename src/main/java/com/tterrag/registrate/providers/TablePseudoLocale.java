@@ -0,0 +1,108 @@
+package com.tterrag.registrate.providers;
+
+import java.util.Arrays;
+
+/**
+ * A {@link PseudoLocale} mapping each character through a lookup table, optionally reversing the text or padding it. Format arguments are copied unchanged, and kept in reading order when
+ * reversing.
+ */
+class TablePseudoLocale implements PseudoLocale {
+
+    private final String locale;
+    /** Indexed by character, characters past its end map to themselves */
+    private final char[] table;
+    private final boolean reverse;
+    private final float expansion;
+
+    /**
+     * @param from
+     *            The characters to replace
+     * @param to
+     *            The replacement of each character of {@code from}, at the same index
+     * @param reverse
+     *            If the text should be reversed
+     * @param expansion
+     *            The fraction of its length to pad the text by, 0 to neither bracket nor pad it
+     */
+    TablePseudoLocale(String locale, String from, String to, boolean reverse, float expansion) {
+        if (from.length() != to.length()) {
+            throw new IllegalArgumentException("Char maps do not match in length!");
+        }
+        this.locale = locale;
+        this.table = new char[from.chars().max().orElse(-1) + 1];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (char) i;
+        }
+        for (int i = 0; i < from.length(); i++) {
+            table[from.charAt(i)] = to.charAt(i);
+        }
+        this.reverse = reverse;
+        this.expansion = expansion;
+    }
+
+    @Override
+    public String getLocale() {
+        return locale;
+    }
+
+    @Override
+    public String apply(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return value;
+        }
+        char[] ret = new char[length];
+        for (int i = 0; i < length; i++) {
+            int format = formatLength(value, i);
+            if (format > 0) {
+                value.getChars(i, i + format, ret, reverse ? length - i - format : i);
+                i += format - 1;
+                continue;
+            }
+            char c = value.charAt(i);
+            ret[reverse ? length - 1 - i : i] = c < table.length ? table[c] : c;
+        }
+        if (expansion <= 0) {
+            return new String(ret);
+        }
+        int padding = Math.max(1, Math.round(length * expansion));
+        char[] padded = new char[length + padding + 3];
+        padded[0] = '[';
+        System.arraycopy(ret, 0, padded, 1, length);
+        padded[length + 1] = ' ';
+        Arrays.fill(padded, length + 2, padded.length - 1, '~');
+        padded[padded.length - 1] = ']';
+        return new String(padded);
+    }
+
+    /**
+     * Find the length of a format argument, such as {@code %s}, {@code %1$d} or {@code %%}, as understood by {@link net.minecraft.network.chat.contents.TranslatableContents}.
+     *
+     * @return The length of the format argument at the index, or 0 if there is none
+     */
+    static int formatLength(String value, int start) {
+        if (value.charAt(start) != '%') {
+            return 0;
+        }
+        int length = value.length();
+        int i = start + 1;
+        while (i < length && Character.isDigit(value.charAt(i))) {
+            i++;
+        }
+        if (i > start + 1) {
+            // An argument index must be followed by '$'
+            if (i == length || value.charAt(i) != '$') {
+                return 0;
+            }
+            i++;
+        }
+        if (i < length && (isAsciiLetter(value.charAt(i)) || value.charAt(i) == '%')) {
+            return i + 1 - start;
+        }
+        return 0;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
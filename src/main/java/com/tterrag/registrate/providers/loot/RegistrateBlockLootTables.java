@@ -2,8 +2,8 @@ package com.tterrag.registrate.providers.loot;
 
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+import com.google.common.collect.Iterables;
 import com.tterrag.registrate.AbstractRegistrate;
 
 import lombok.RequiredArgsConstructor;
@@ -41,7 +41,7 @@ public class RegistrateBlockLootTables extends FabricBlockLootTableProvider impl
 
 //    @Override
     protected Iterable<Block> getKnownBlocks() {
-        return parent.getAll(Registry.BLOCK_REGISTRY).stream().map(Supplier::get).collect(Collectors.toList());
+        return Iterables.transform(parent.getAll(Registry.BLOCK_REGISTRY), Supplier::get);
     }
 
     // @formatter:off
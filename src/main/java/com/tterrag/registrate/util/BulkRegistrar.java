@@ -0,0 +1,401 @@
+package com.tterrag.registrate.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.tterrag.registrate.AbstractRegistrate;
+import com.tterrag.registrate.builders.BlockBuilder;
+import com.tterrag.registrate.builders.ItemBuilder;
+import com.tterrag.registrate.providers.DataGenContext;
+import com.tterrag.registrate.providers.RegistrateBlockstateProvider;
+import com.tterrag.registrate.providers.RegistrateItemModelProvider;
+import com.tterrag.registrate.util.entry.RegistryEntry;
+import com.tterrag.registrate.util.nullness.NonNullBiConsumer;
+import com.tterrag.registrate.util.nullness.NonNullFunction;
+import com.tterrag.registrate.util.nullness.NonNullUnaryOperator;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Declares blocks and items in bulk from a JSON or CSV spec, through the usual {@link BlockBuilder} and {@link ItemBuilder} pipeline.
+ * <p>
+ * Factories, property presets and model templates are registered once by key, and shared by every entry that names them, so the number of classes loaded does not grow with the number of entries.
+ * Specs are streamed, one entry at a time.
+ * <p>
+ * Each entry supports the following fields:
+ * <ul>
+ * <li>{@code name} - the entry name (required)</li>
+ * <li>{@code registry} - {@code block} or {@code item}, or their full registry IDs (required)</li>
+ * <li>{@code factory} - the key of a factory registered via {@link #blockFactory(String, NonNullFunction)} or {@link #itemFactory(String, NonNullFunction)} (required)</li>
+ * <li>{@code properties} - the key of a properties preset</li>
+ * <li>{@code tags} - tag IDs, a list in JSON or space separated in CSV</li>
+ * <li>{@code lang} - the English name, if not the default</li>
+ * <li>{@code model} - the key of a blockstate or item model template</li>
+ * <li>{@code item} - for blocks, {@code true} to add a default block item</li>
+ * </ul>
+ * A JSON spec is an array of objects with these fields. A CSV spec follows RFC 4180, with a header row naming its columns and one entry per row. Cells containing commas, quotes or line
+ * breaks must be quoted, e.g. {@code "Chair, Oak"}. For example:
+ *
+ * <pre>
+ * {@code
+ * REGISTRATE.bulk()
+ *         .blockFactory("simple", Block::new)
+ *         .blockProperties("planks", p -> BlockBehaviour.Properties.copy(Blocks.OAK_PLANKS))
+ *         .blockModel("cube_all", (ctx, prov) -> prov.simpleBlock(ctx.get()))
+ *         .load(MyMod.class, "/data/mymod/decor.csv");
+ * }
+ * </pre>
+ */
+@Log4j2
+public class BulkRegistrar {
+
+    public enum Format {
+        JSON,
+        CSV,
+        ;
+    }
+
+    private static class Spec {
+        @Nullable
+        String name, registry, factory, properties, lang, model;
+        List<String> tags = new ArrayList<>();
+        boolean item;
+    }
+
+    private final AbstractRegistrate<?> owner;
+
+    private final Map<String, NonNullFunction<BlockBehaviour.Properties, Block>> blockFactories = new HashMap<>();
+    private final Map<String, NonNullFunction<Item.Properties, Item>> itemFactories = new HashMap<>();
+    private final Map<String, NonNullUnaryOperator<BlockBehaviour.Properties>> blockProperties = new HashMap<>();
+    private final Map<String, NonNullUnaryOperator<Item.Properties>> itemProperties = new HashMap<>();
+    private final Map<String, NonNullBiConsumer<DataGenContext<Block, Block>, RegistrateBlockstateProvider>> blockModels = new HashMap<>();
+    private final Map<String, NonNullBiConsumer<DataGenContext<Item, Item>, RegistrateItemModelProvider>> itemModels = new HashMap<>();
+
+    public BulkRegistrar(AbstractRegistrate<?> owner) {
+        this.owner = owner;
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkRegistrar blockFactory(String key, NonNullFunction<BlockBehaviour.Properties, ? extends Block> factory) {
+        blockFactories.put(key, (NonNullFunction<BlockBehaviour.Properties, Block>) factory);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkRegistrar itemFactory(String key, NonNullFunction<Item.Properties, ? extends Item> factory) {
+        itemFactories.put(key, (NonNullFunction<Item.Properties, Item>) factory);
+        return this;
+    }
+
+    public BulkRegistrar blockProperties(String key, NonNullUnaryOperator<BlockBehaviour.Properties> preset) {
+        blockProperties.put(key, preset);
+        return this;
+    }
+
+    public BulkRegistrar itemProperties(String key, NonNullUnaryOperator<Item.Properties> preset) {
+        itemProperties.put(key, preset);
+        return this;
+    }
+
+    public BulkRegistrar blockModel(String key, NonNullBiConsumer<DataGenContext<Block, Block>, RegistrateBlockstateProvider> template) {
+        blockModels.put(key, template);
+        return this;
+    }
+
+    public BulkRegistrar itemModel(String key, NonNullBiConsumer<DataGenContext<Item, Item>, RegistrateItemModelProvider> template) {
+        itemModels.put(key, template);
+        return this;
+    }
+
+    /**
+     * Declare all entries in a spec on the classpath. The format is chosen by the file extension.
+     *
+     * @param caller
+     *            The class whose class loader the spec is loaded from, usually the mod's own, as Registrate's class loader may not see the mod's resources
+     * @param resource
+     *            The path of the resource, relative to the package of the caller unless it starts with {@code /}, e.g. {@code /data/mymod/decor.json}
+     * @return The declared entries, in spec order
+     * @throws UncheckedIOException
+     *             if the resource could not be read
+     */
+    public List<RegistryEntry<?>> load(Class<?> caller, String resource) {
+        InputStream in = caller.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Bulk registration spec not found: " + resource + " (relative to " + caller.getName() + ")");
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return load(reader, getFormat(resource));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read bulk registration spec " + resource, e);
+        }
+    }
+
+    /**
+     * Declare all entries in a spec file. The format is chosen by the file extension.
+     *
+     * @param file
+     *            The spec file
+     * @return The declared entries, in spec order
+     * @throws UncheckedIOException
+     *             if the file could not be read
+     */
+    public List<RegistryEntry<?>> load(Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(reader, getFormat(file.getFileName().toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read bulk registration spec " + file, e);
+        }
+    }
+
+    private static Format getFormat(String name) {
+        return name.endsWith(".csv") ? Format.CSV : Format.JSON;
+    }
+
+    /**
+     * Declare all entries in a spec.
+     *
+     * @param reader
+     *            The spec, which is not closed
+     * @param format
+     *            The format of the spec
+     * @return The declared entries, in spec order
+     * @throws IOException
+     *             if the spec could not be read
+     */
+    public List<RegistryEntry<?>> load(Reader reader, Format format) throws IOException {
+        List<RegistryEntry<?>> ret = new ArrayList<>();
+        if (format == Format.JSON) {
+            loadJson(reader, ret);
+        } else {
+            loadCsv(reader, ret);
+        }
+        log.debug(DebugMarkers.REGISTER, "Declared {} entries in bulk for {}", ret.size(), owner.getModid());
+        return ret;
+    }
+
+    private void loadJson(Reader reader, List<RegistryEntry<?>> entries) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        json.beginArray();
+        while (json.hasNext()) {
+            Spec spec = new Spec();
+            json.beginObject();
+            while (json.hasNext()) {
+                String field = json.nextName();
+                if (field.equals("tags")) {
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        spec.tags.add(json.nextString());
+                    }
+                    json.endArray();
+                } else if (field.equals("item")) {
+                    spec.item = json.nextBoolean();
+                } else if (json.peek() == JsonToken.STRING) {
+                    set(spec, field, json.nextString());
+                } else {
+                    throw new IllegalArgumentException("Unexpected value for field " + field + " at " + json.getPath());
+                }
+            }
+            json.endObject();
+            entries.add(declare(spec));
+        }
+        json.endArray();
+    }
+
+    private void loadCsv(Reader reader, List<RegistryEntry<?>> entries) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        int[] line = { 1 };
+        List<String> header = new ArrayList<>();
+        if (!readCsvRecord(in, header, line)) {
+            return;
+        }
+        List<String> row = new ArrayList<>();
+        int start = line[0];
+        while (readCsvRecord(in, row, line)) {
+            if (row.size() == 1 && row.get(0).isEmpty()) {
+                start = line[0];
+                continue;
+            }
+            if (row.size() > header.size()) {
+                throw new IllegalArgumentException("Too many columns in record on line " + start);
+            }
+            Spec spec = new Spec();
+            for (int i = 0; i < row.size(); i++) {
+                String value = row.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                String field = header.get(i);
+                if (field.equals("tags")) {
+                    for (String tag : value.split("\\s+")) {
+                        if (!tag.isEmpty()) {
+                            spec.tags.add(tag);
+                        }
+                    }
+                } else if (field.equals("item")) {
+                    spec.item = Boolean.parseBoolean(value);
+                } else {
+                    set(spec, field, value);
+                }
+            }
+            entries.add(declare(spec));
+            start = line[0];
+        }
+    }
+
+    /**
+     * Read one record of an RFC 4180 CSV file. Cells may be quoted, in which case they may contain commas, line breaks and quotes, which are doubled. Unquoted whitespace around cells is trimmed.
+     *
+     * @param in
+     *            The reader, positioned at the start of a record
+     * @param out
+     *            Receives the cells of the record, cleared first
+     * @param line
+     *            The current line number, advanced past every line break read
+     * @return {@code false} if the end of the input was reached before any record
+     * @throws IllegalArgumentException
+     *             if a quoted cell is not closed before the end of the input
+     */
+    private static boolean readCsvRecord(BufferedReader in, List<String> out, int[] line) throws IOException {
+        out.clear();
+        StringBuilder cell = new StringBuilder();
+        int start = line[0];
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = in.read()) != -1) {
+            empty = false;
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        cell.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line[0]++;
+                    }
+                    // Line breaks inside quoted cells are normalized to \n
+                    if (c != '\r') {
+                        cell.append((char) c);
+                    }
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(cell.toString().trim());
+                cell.setLength(0);
+            } else if (c == '\n') {
+                line[0]++;
+                break;
+            } else if (c != '\r') {
+                cell.append((char) c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted cell in record on line " + start);
+        }
+        if (empty) {
+            return false;
+        }
+        out.add(cell.toString().trim());
+        return true;
+    }
+
+    private static void set(Spec spec, String field, String value) {
+        switch (field) {
+        case "name" -> spec.name = value;
+        case "registry" -> spec.registry = value;
+        case "factory" -> spec.factory = value;
+        case "properties" -> spec.properties = value;
+        case "lang" -> spec.lang = value;
+        case "model" -> spec.model = value;
+        default -> throw new IllegalArgumentException("Unknown bulk registration field: " + field);
+        }
+    }
+
+    private RegistryEntry<?> declare(Spec spec) {
+        String name = require(spec.name, "name", spec);
+        ResourceLocation registry = new ResourceLocation(require(spec.registry, "registry", spec));
+        if (registry.equals(Registry.BLOCK_REGISTRY.location())) {
+            return declareBlock(name, spec);
+        } else if (registry.equals(Registry.ITEM_REGISTRY.location())) {
+            return declareItem(name, spec);
+        }
+        throw new IllegalArgumentException("Unsupported registry " + registry + " for bulk entry " + name);
+    }
+
+    private RegistryEntry<?> declareBlock(String name, Spec spec) {
+        BlockBuilder<Block, ?> builder = owner.block(name, lookup(blockFactories, require(spec.factory, "factory", spec), "block factory", name));
+        if (spec.properties != null) {
+            builder = builder.properties(lookup(blockProperties, spec.properties, "block properties preset", name));
+        }
+        for (String tag : spec.tags) {
+            builder = builder.tag(TagKey.create(Registry.BLOCK_REGISTRY, new ResourceLocation(tag)));
+        }
+        if (spec.lang != null) {
+            builder = builder.lang(spec.lang);
+        }
+        if (spec.model != null) {
+            builder = builder.blockstate(lookup(blockModels, spec.model, "blockstate template", name));
+        }
+        if (spec.item) {
+            builder = builder.simpleItem();
+        }
+        return builder.register();
+    }
+
+    private RegistryEntry<?> declareItem(String name, Spec spec) {
+        ItemBuilder<Item, ?> builder = owner.item(name, lookup(itemFactories, require(spec.factory, "factory", spec), "item factory", name));
+        if (spec.properties != null) {
+            builder = builder.properties(lookup(itemProperties, spec.properties, "item properties preset", name));
+        }
+        for (String tag : spec.tags) {
+            builder = builder.tag(TagKey.create(Registry.ITEM_REGISTRY, new ResourceLocation(tag)));
+        }
+        if (spec.lang != null) {
+            builder = builder.lang(spec.lang);
+        }
+        if (spec.model != null) {
+            builder = builder.model(lookup(itemModels, spec.model, "item model template", name));
+        }
+        return builder.register();
+    }
+
+    private static String require(@Nullable String value, String field, Spec spec) {
+        if (value == null) {
+            throw new IllegalArgumentException("Bulk entry " + (spec.name == null ? "" : spec.name + " ") + "is missing required field " + field);
+        }
+        return value;
+    }
+
+    private static <V> V lookup(Map<String, V> map, String key, String what, String entry) {
+        V ret = map.get(key);
+        if (ret == null) {
+            throw new IllegalArgumentException("Unknown " + what + " " + key + " for bulk entry " + entry);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,200 @@
+package com.tterrag.registrate.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import com.tterrag.registrate.util.entry.RegistryEntry;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fingerprints data generator callbacks, so unchanged generators can be detected across runs.
+ * <p>
+ * Generators are lambdas, which cannot be compared directly. Instead, a fingerprint covers the bytecode of the classes declaring the lambda and the lambdas it captures, and the simple values
+ * it captures (strings, numbers, enums, IDs, tags, and arrays and collections of them), such as names passed to {@code lang}. Captured entries are covered by their ID, and captured
+ * {@link Snapshot snapshots}, such as builders, by the state they describe, e.g. the tags added to a builder.
+ * <p>
+ * Other captured objects hold state which cannot be fingerprinted reliably. A fingerprint reaching any of them is <em>incomplete</em>, and must not be used to skip a generator.
+ */
+@Log4j2
+public final class GeneratorFingerprint {
+
+    private static final int MAX_DEPTH = 4;
+    private static final String LAMBDA_MARKER = "$$Lambda";
+
+    /** Bytecode hashes by class name, empty if the bytecode could not be read */
+    private static final Map<String, Optional<HashCode>> CLASS_HASHES = new ConcurrentHashMap<>();
+
+    private GeneratorFingerprint() {}
+
+    /**
+     * An object captured by generators which describes its own state, rather than being fingerprinted by its fields. Builders are snapshots, as the generators they add capture them.
+     */
+    public interface Snapshot {
+
+        /**
+         * Add everything generators may read from this object to a hasher. Only called once declaration has finished, so the state is final.
+         *
+         * @param hasher
+         *            The hasher to add to
+         * @return If the description is complete
+         */
+        boolean fingerprint(Hasher hasher);
+    }
+
+    /**
+     * Add the fingerprint of a generator to a hasher.
+     *
+     * @param generator
+     *            The generator, usually a lambda
+     * @param hasher
+     *            The hasher to add to
+     * @return If the fingerprint is complete, i.e. covers everything the generator depends on
+     */
+    public static boolean hash(Object generator, Hasher hasher) {
+        return hash(generator, hasher, Collections.newSetFromMap(new IdentityHashMap<>()), 0);
+    }
+
+    /**
+     * Add the fingerprint of an object which is not a lambda, such as a {@link com.tterrag.registrate.providers.PseudoLocale}, to a hasher. Covers the bytecode of its class and superclasses, and
+     * the values of their instance fields, with the same rules as for captured values of a {@linkplain #hash(Object, Hasher) generator}.
+     *
+     * @param value
+     *            The object
+     * @param hasher
+     *            The hasher to add to
+     * @return If the fingerprint is complete
+     */
+    public static boolean hashObject(Object value, Hasher hasher) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.add(value);
+        boolean complete = true;
+        for (Class<?> cls = value.getClass(); cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            complete &= hashClass(cls, cls.getName(), hasher);
+            complete &= hashFields(cls, value, hasher, visited, 0);
+        }
+        return complete;
+    }
+
+    private static boolean hash(Object value, Hasher hasher, Set<Object> visited, int depth) {
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum
+                || value instanceof ResourceLocation || value instanceof ResourceKey || value instanceof TagKey) {
+            hasher.putString(value.getClass().getName(), StandardCharsets.UTF_8).putString(value.toString(), StandardCharsets.UTF_8);
+            return true;
+        }
+        if (value instanceof RegistryEntry<?> entry) {
+            ResourceLocation id = entry.getId();
+            hasher.putString(RegistryEntry.class.getName(), StandardCharsets.UTF_8).putString(id == null ? "" : id.toString(), StandardCharsets.UTF_8);
+            return true;
+        }
+        Class<?> cls = value.getClass();
+        if (value instanceof Snapshot snapshot) {
+            boolean complete = hashClass(cls, cls.getName(), hasher);
+            return visited.add(value) ? complete & snapshot.fingerprint(hasher) : complete;
+        }
+        if (cls.isArray()) {
+            int length = Array.getLength(value);
+            hasher.putString(cls.getName(), StandardCharsets.UTF_8).putInt(length);
+            boolean complete = true;
+            for (int i = 0; i < length; i++) {
+                complete &= hashNullable(Array.get(value, i), hasher, visited, depth);
+            }
+            return complete;
+        }
+        if (value instanceof Collection<?> collection) {
+            // Captured data, such as raw lang entries, copied as it may be synchronized
+            Object[] elements = collection.toArray();
+            hasher.putInt(elements.length);
+            boolean complete = true;
+            for (Object element : elements) {
+                complete &= hashNullable(element, hasher, visited, depth);
+            }
+            return complete;
+        }
+        if (value instanceof Map.Entry<?, ?> entry) {
+            return hashNullable(entry.getKey(), hasher, visited, depth) & hashNullable(entry.getValue(), hasher, visited, depth);
+        }
+        String name = cls.getName();
+        int lambda = name.indexOf(LAMBDA_MARKER);
+        hasher.putString(name, StandardCharsets.UTF_8);
+        if (lambda < 0) {
+            // Arbitrary state, only its type is known
+            return false;
+        }
+        boolean complete = hashClass(cls, name.substring(0, lambda), hasher);
+        if (!visited.add(value)) {
+            return complete;
+        }
+        if (depth >= MAX_DEPTH) {
+            return false;
+        }
+        return complete & hashFields(cls, value, hasher, visited, depth);
+    }
+
+    private static boolean hashFields(Class<?> cls, Object value, Hasher hasher, Set<Object> visited, int depth) {
+        // Lambda classes only declare fields for their captured arguments
+        boolean complete = true;
+        for (Field field : cls.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Object captured;
+            try {
+                field.setAccessible(true);
+                captured = field.get(value);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                hasher.putString(field.getType().getName(), StandardCharsets.UTF_8);
+                complete = false;
+                continue;
+            }
+            complete &= hashNullable(captured, hasher, visited, depth + 1);
+        }
+        return complete;
+    }
+
+    private static boolean hashNullable(@Nullable Object value, Hasher hasher, Set<Object> visited, int depth) {
+        if (value == null) {
+            hasher.putByte((byte) 0);
+            return true;
+        }
+        return hash(value, hasher, visited, depth);
+    }
+
+    private static boolean hashClass(Class<?> cls, String host, Hasher hasher) {
+        Optional<HashCode> hash = CLASS_HASHES.computeIfAbsent(host, k -> {
+            ClassLoader loader = cls.getClassLoader();
+            String resource = host.replace('.', '/') + ".class";
+            try (InputStream in = loader == null ? ClassLoader.getSystemResourceAsStream(resource) : loader.getResourceAsStream(resource)) {
+                if (in != null) {
+                    return Optional.of(Hashing.sha1().hashBytes(in.readAllBytes()));
+                }
+            } catch (IOException e) {
+                log.debug(DebugMarkers.DATA, "Could not read bytecode of {}", host, e);
+                return Optional.empty();
+            }
+            log.debug(DebugMarkers.DATA, "Could not find bytecode of {}", host);
+            return Optional.empty();
+        });
+        hash.ifPresent(h -> hasher.putBytes(h.asBytes()));
+        return hash.isPresent();
+    }
+}
@@ -0,0 +1,149 @@
+package com.tterrag.registrate.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.providers.RegistrateDataProvider;
+
+import net.minecraft.resources.ResourceKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A fixed-size ring buffer of recent registrate events, shared by all registrates. Recording only stores references the caller already holds, so it does not allocate and is always on.
+ * <p>
+ * The buffer holds the last {@code registrate.trace.size} events (default 1024, rounded up to a power of two, {@code 0} disables recording). It is dumped automatically when registration or data
+ * generation fails, and on demand via {@link #dump(Consumer)} or the {@code /registrate trace} command.
+ * <p>
+ * Writers never block each other. Each slot is guarded like a seqlock: its sequence number is cleared before the event is written and published after it, and a dump re-checks it after reading
+ * the event, skipping slots that were mid-write or overwritten meanwhile.
+ */
+public final class TraceRecorder {
+
+    public enum Kind {
+        CAPTURED,
+        CONSTRUCTED,
+        REGISTERED,
+        CALLBACK,
+        AFTER_REGISTER_CALLBACK,
+        GENERATOR,
+        ;
+    }
+
+    private static final int CAPACITY = capacity(Integer.getInteger("registrate.trace.size", 1024));
+    private static final int MASK = CAPACITY - 1;
+
+    private static final AtomicLong cursor = new AtomicLong();
+    /** The sequence number of the event stored in each slot, written last. -1 while the slot is being written. Only accessed via {@link #SEQUENCE}. */
+    private static final long[] sequences = new long[CAPACITY];
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long[] times = new long[CAPACITY];
+    private static final Kind[] kinds = new Kind[CAPACITY];
+    private static final Object[] owners = new Object[CAPACITY];
+    private static final Object[] groups = new Object[CAPACITY];
+    private static final Object[] subjects = new Object[CAPACITY];
+
+    private static int capacity(int requested) {
+        if (requested <= 0) {
+            return 0;
+        }
+        return requested == 1 ? 1 : Integer.highestOneBit(Math.min(requested, 1 << 20) - 1) << 1;
+    }
+
+    private TraceRecorder() {}
+
+    /**
+     * Record an event.
+     *
+     * @param kind
+     *            The kind of event
+     * @param owner
+     *            The mod ID of the registrate recording the event
+     * @param group
+     *            The registry key or {@link ProviderType} the event belongs to
+     * @param subject
+     *            The entry the event concerns, if any
+     */
+    public static void record(Kind kind, String owner, Object group, @Nullable Object subject) {
+        if (CAPACITY == 0) {
+            return;
+        }
+        long seq = cursor.getAndIncrement();
+        int slot = (int) seq & MASK;
+        SEQUENCE.setOpaque(sequences, slot, -1L);
+        // The cleared sequence must be visible before any of the event is
+        VarHandle.storeStoreFence();
+        times[slot] = System.nanoTime();
+        kinds[slot] = kind;
+        owners[slot] = owner;
+        groups[slot] = group;
+        subjects[slot] = subject;
+        SEQUENCE.setRelease(sequences, slot, seq);
+    }
+
+    /**
+     * Write the buffered events to the given consumer, oldest first, one line per event. Times are relative to the newest event.
+     *
+     * @param out
+     *            The consumer to receive each line
+     * @return The number of events written
+     */
+    public static synchronized int dump(Consumer<String> out) {
+        long end = cursor.get();
+        long start = Math.max(0, end - CAPACITY);
+        int count = (int) (end - start);
+        long[] eventTimes = new long[count];
+        Kind[] eventKinds = new Kind[count];
+        Object[] eventOwners = new Object[count];
+        Object[] eventGroups = new Object[count];
+        Object[] eventSubjects = new Object[count];
+        long newest = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long seq = start + i;
+            int slot = (int) seq & MASK;
+            if ((long) SEQUENCE.getAcquire(sequences, slot) != seq) {
+                continue;
+            }
+            long time = times[slot];
+            Kind kind = kinds[slot];
+            Object owner = owners[slot];
+            Object group = groups[slot];
+            Object subject = subjects[slot];
+            // The event must be read before re-checking that it was not overwritten meanwhile
+            VarHandle.loadLoadFence();
+            if ((long) SEQUENCE.getOpaque(sequences, slot) != seq) {
+                continue;
+            }
+            eventTimes[i] = time;
+            eventKinds[i] = kind;
+            eventOwners[i] = owner;
+            eventGroups[i] = group;
+            eventSubjects[i] = subject;
+            newest = Math.max(newest, time);
+        }
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            if (eventKinds[i] == null) {
+                continue;
+            }
+            Object subject = eventSubjects[i];
+            out.accept(String.format("%10.3fms %-23s [%s] %s%s", (eventTimes[i] - newest) / (double) TimeUnit.MILLISECONDS.toNanos(1), eventKinds[i], eventOwners[i], describe(eventGroups[i]),
+                    subject == null ? "" : " " + subject));
+            written++;
+        }
+        return written;
+    }
+
+    private static String describe(Object group) {
+        if (group instanceof ResourceKey<?> key) {
+            return key.location().toString();
+        } else if (group instanceof ProviderType<?> type) {
+            String name = RegistrateDataProvider.getTypeName(type);
+            return name == null ? type.toString() : name;
+        }
+        return String.valueOf(group);
+    }
+}
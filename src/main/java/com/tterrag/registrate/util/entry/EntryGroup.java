@@ -0,0 +1,249 @@
+package com.tterrag.registrate.util.entry;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.tterrag.registrate.AbstractRegistrate;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.fabricmc.fabric.api.event.registry.RegistryIdRemapCallback;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A set of registry entries, backed by a bitset over their raw IDs. Membership checks are a raw ID lookup and a bit test, with no allocation.
+ * <p>
+ * Groups are built lazily on first use, so they can be created before registration. They are rebuilt after tags are reloaded, after raw IDs are remapped (e.g. when joining a server), and
+ * after entries are added to a registry a group has been used with, all tracked by a single generation shared by every group.
+ *
+ * <pre>
+ * {@code
+ * public static final EntryGroup<Block> MACHINES = EntryGroup.of(REGISTRATE, Registry.BLOCK_REGISTRY);
+ *
+ * if (MACHINES.contains(level.getBlockState(pos))) ...
+ * }
+ * </pre>
+ *
+ * @param <T>
+ *            The type of the registry
+ */
+public final class EntryGroup<T> {
+
+    /** Bumped whenever the members of any group may have changed, members built in an older generation are rebuilt on next use */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    /** Registries whose additions and remaps are listened to */
+    private static final Set<ResourceKey<?>> LISTENED = new HashSet<>();
+
+    static {
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> invalidateAll());
+    }
+
+    private static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    private final ResourceKey<? extends Registry<T>> registryKey;
+    private final Consumer<EntryGroup<T>> source;
+
+    private record Members(BitSet bits, int generation) {}
+
+    @Nullable
+    private Registry<T> registry;
+    @Nullable
+    private volatile Members members;
+
+    private EntryGroup(ResourceKey<? extends Registry<T>> registryKey, Consumer<EntryGroup<T>> source) {
+        this.registryKey = registryKey;
+        this.source = source;
+    }
+
+    /**
+     * Create a group of all entries of the given registry type declared by a registrate.
+     *
+     * @param registrate
+     *            The registrate which declared the entries
+     * @param type
+     *            The registry type
+     * @return A new {@link EntryGroup}
+     */
+    public static <T> EntryGroup<T> of(AbstractRegistrate<?> registrate, ResourceKey<? extends Registry<T>> type) {
+        return new EntryGroup<>(type, group -> registrate.getAll(type).forEach(group::addPresent));
+    }
+
+    /**
+     * Create a group of the given entries.
+     *
+     * @param type
+     *            The registry type
+     * @param entries
+     *            The entries, which are copied
+     * @return A new {@link EntryGroup}
+     */
+    public static <T> EntryGroup<T> of(ResourceKey<? extends Registry<T>> type, Collection<? extends RegistryEntry<? extends T>> entries) {
+        List<RegistryEntry<? extends T>> copy = new ArrayList<>(entries);
+        return new EntryGroup<>(type, group -> copy.forEach(group::addPresent));
+    }
+
+    /**
+     * Create a group of all entries in a registry that match a predicate. The predicate is tested against every entry each time the group is rebuilt.
+     *
+     * @param type
+     *            The registry type
+     * @param predicate
+     *            The predicate
+     * @return A new {@link EntryGroup}
+     */
+    public static <T> EntryGroup<T> of(ResourceKey<? extends Registry<T>> type, Predicate<? super T> predicate) {
+        return new EntryGroup<>(type, group -> {
+            for (T value : group.getRegistry()) {
+                if (predicate.test(value)) {
+                    group.add(value);
+                }
+            }
+        });
+    }
+
+    /**
+     * Create a group of all entries in a tag, which is rebuilt when tags are reloaded.
+     *
+     * @param tag
+     *            The tag
+     * @return A new {@link EntryGroup}
+     */
+    public static <T> EntryGroup<T> of(TagKey<T> tag) {
+        return new EntryGroup<>(tag.registry(), group -> {
+            for (Holder<T> holder : group.getRegistry().getTagOrEmpty(tag)) {
+                group.add(holder.value());
+            }
+        });
+    }
+
+    public boolean contains(@Nullable T value) {
+        return value != null && containsId(getRegistry().getId(value));
+    }
+
+    /**
+     * Check if the item of a stack is in this group. For block groups, checks the block of a {@link BlockItem}.
+     */
+    public boolean contains(ItemStack stack) {
+        Item item = stack.getItem();
+        Registry<T> registry = getRegistry();
+        if (registry == Registry.ITEM) {
+            return containsId(Registry.ITEM.getId(item));
+        } else if (registry == Registry.BLOCK) {
+            return item instanceof BlockItem blockItem && containsId(Registry.BLOCK.getId(blockItem.getBlock()));
+        }
+        return false;
+    }
+
+    /**
+     * Check if the block of a state is in this group. For item groups, checks the item form of the block.
+     */
+    public boolean contains(BlockState state) {
+        Block block = state.getBlock();
+        Registry<T> registry = getRegistry();
+        if (registry == Registry.BLOCK) {
+            return containsId(Registry.BLOCK.getId(block));
+        } else if (registry == Registry.ITEM) {
+            return containsId(Registry.ITEM.getId(block.asItem()));
+        }
+        return false;
+    }
+
+    private boolean containsId(int id) {
+        return id >= 0 && getMembers().get(id);
+    }
+
+    /**
+     * @return The number of entries in this group
+     */
+    public int size() {
+        return getMembers().cardinality();
+    }
+
+    private BitSet getMembers() {
+        Members members = this.members;
+        if (members == null || members.generation() != GENERATION.get()) {
+            return rebuild();
+        }
+        return members.bits();
+    }
+
+    /**
+     * Discard the current members, which are rebuilt on next use. As all groups share one generation, other groups are rebuilt on their next use too.
+     */
+    public void invalidate() {
+        invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Registry<T> getRegistry() {
+        Registry<T> registry = this.registry;
+        if (registry == null) {
+            registry = (Registry<T>) Objects.requireNonNull(Registry.REGISTRY.get(registryKey.location()), () -> "Unknown registry " + registryKey.location());
+            synchronized (LISTENED) {
+                if (LISTENED.add(registryKey)) {
+                    RegistryEntryAddedCallback.event(registry).register((rawId, id, value) -> invalidateAll());
+                    RegistryIdRemapCallback.event(registry).register(state -> invalidateAll());
+                }
+            }
+            this.registry = registry;
+        }
+        return registry;
+    }
+
+    @Nullable
+    private BitSet building;
+
+    private synchronized BitSet rebuild() {
+        // Read before building, so anything invalidating the group meanwhile causes another rebuild
+        int generation = GENERATION.get();
+        Members members = this.members;
+        if (members != null && members.generation() == generation) {
+            return members.bits();
+        }
+        building = new BitSet();
+        try {
+            source.accept(this);
+            this.members = new Members(building, generation);
+            return building;
+        } finally {
+            building = null;
+        }
+    }
+
+    private void add(T value) {
+        int id = getRegistry().getId(value);
+        if (id >= 0) {
+            Objects.requireNonNull(building).set(id);
+        }
+    }
+
+    /**
+     * Looked up by ID rather than through the entry, which is only bound after the registry has notified listeners of the addition.
+     */
+    private void addPresent(RegistryEntry<? extends T> entry) {
+        ResourceLocation id = entry.getId();
+        if (id != null) {
+            getRegistry().getOptional(id).ifPresent(this::add);
+        }
+    }
+}
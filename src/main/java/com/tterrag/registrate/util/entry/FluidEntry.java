@@ -16,15 +16,11 @@ import org.jetbrains.annotations.Nullable;
 
 public class FluidEntry<T extends SimpleFlowableFluid> extends RegistryEntry<T> {
 
-    private final @Nullable BlockEntry<? extends Block> block;
+    /** Resolved on first use, as the block may be declared after the fluid */
+    private @Nullable BlockEntry<? extends Block> block;
 
     public FluidEntry(AbstractRegistrate<?> owner, RegistryObject<T> delegate) {
         super(owner, delegate);
-        BlockEntry<? extends Block> block = null;
-        try {
-            block = BlockEntry.cast(getSibling(Registry.BLOCK));
-        } catch (IllegalArgumentException e) {} // TODO add way to get entry optionally
-        this.block = block;
     }
 
     @Override
@@ -39,7 +35,15 @@ public class FluidEntry<T extends SimpleFlowableFluid> extends RegistryEntry<T>
 
     @SuppressWarnings({ "unchecked", "null" })
     public <B extends Block> Optional<B> getBlock() {
-        return (Optional<B>) Optional.ofNullable(block).map(RegistryEntry::get);
+        BlockEntry<? extends Block> block = this.block;
+        if (block == null) {
+            Optional<RegistryEntry<Block>> sibling = findSibling(Registry.BLOCK_REGISTRY);
+            if (sibling.isEmpty()) {
+                return Optional.empty();
+            }
+            block = this.block = BlockEntry.cast(sibling.get());
+        }
+        return Optional.of((B) block.get());
     }
 
     @Override
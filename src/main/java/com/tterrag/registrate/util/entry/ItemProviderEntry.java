@@ -5,20 +5,46 @@ import com.tterrag.registrate.fabric.RegistryObject;
 
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.level.ItemLike;
+import org.jetbrains.annotations.Nullable;
 
 public class ItemProviderEntry<T extends ItemLike> extends RegistryEntry<T> {
 
+    /** Cached {@link ItemLike#asItem()}, once it is no longer air */
+    @Nullable
+    private Item item;
+
     public ItemProviderEntry(AbstractRegistrate<?> owner, RegistryObject<T> delegate) {
         super(owner, delegate);
     }
 
+    @Override
+    protected void unbind() {
+        super.unbind();
+        item = null;
+    }
+
+    /**
+     * @return The item form of the entry, which is cached once it has been registered
+     */
+    public Item asItem() {
+        Item item = this.item;
+        if (item == null) {
+            item = get().asItem();
+            if (item != Items.AIR) {
+                this.item = item;
+            }
+        }
+        return item;
+    }
+
     public ItemStack asStack() {
-        return new ItemStack(get());
+        return new ItemStack(asItem());
     }
 
     public ItemStack asStack(int count) {
-        return new ItemStack(get(), count);
+        return new ItemStack(asItem(), count);
     }
 
     public boolean isIn(ItemStack stack) {
@@ -26,6 +52,6 @@ public class ItemProviderEntry<T extends ItemLike> extends RegistryEntry<T> {
     }
 
     public boolean is(Item item) {
-        return get().asItem() == item;
+        return asItem() == item;
     }
 }
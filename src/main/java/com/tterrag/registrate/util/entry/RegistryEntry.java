@@ -1,6 +1,9 @@
 package com.tterrag.registrate.util.entry;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 
 import com.tterrag.registrate.AbstractRegistrate;
@@ -10,12 +13,18 @@ import com.tterrag.registrate.util.nullness.NonnullType;
 
 import lombok.EqualsAndHashCode;
 import lombok.experimental.Delegate;
+import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.tags.TagKey;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Wraps a {@link RegistryObject}, providing a cleaner API with null-safe access, and registrate-specific extensions such as {@link #getSibling(ResourceKey)}.
+ * <p>
+ * Once the entry has been resolved from its registry, it is bound to a plain field, so {@link #get()} and the {@code is}/{@code has} checks of subclasses are a field load and an identity compare.
+ * To confirm these inline at their call sites, run with {@code -XX:+UnlockDiagnosticVMOptions -XX:CompileCommand=option,com.tterrag.registrate.util.entry.*::*,PrintInlining} (see the
+ * {@code testmodInlining} run configuration).
  *
  * @param <T>
  *            The type of the entry
@@ -38,12 +47,25 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
         RegistryObject<T> filter(Predicate<? super T> predicate);
         
         public void updateReference(Registry<? extends T> registry);
+
+        public void updateReference(Registry<? extends T> registry, T object);
     }
 
     private final AbstractRegistrate<?> owner;
     @Delegate(excludes = Exclusions.class)
     private final @Nullable RegistryObject<T> delegate;
 
+    /** The resolved entry. Only reset by {@link #updateReference(Registry)}, so effectively final after registration. */
+    @Nullable
+    private T value;
+    @Nullable
+    private Holder.Reference<T> holder;
+    @Nullable
+    private SiblingLinks siblings;
+    /** Created by the first {@link #whenPresent()} before the entry is bound, guarded by this entry */
+    @Nullable
+    private CompletableFuture<T> presence;
+
     @SuppressWarnings("unused")
     public RegistryEntry(AbstractRegistrate<?> owner, RegistryObject<T> delegate) {
         if (EMPTY != null && owner == null)
@@ -63,6 +85,73 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
     public void updateReference(Registry<? super T> registry) {
         RegistryObject<T> delegate = this.delegate;
         Objects.requireNonNull(delegate, "Registry entry is empty").updateReference(registry);
+        unbind();
+        value = delegate.orElse(null);
+        completePresence(value);
+    }
+
+    /**
+     * Bind the underlying entry directly to an instance which is known to be registered, without looking it up.
+     *
+     * @param registry
+     *            The registry the entry is registered to
+     * @param object
+     *            The registered entry
+     */
+    public void updateReference(Registry<? super T> registry, T object) {
+        Objects.requireNonNull(delegate, "Registry entry is empty").updateReference(registry, object);
+        unbind();
+        value = object;
+        completePresence(object);
+    }
+
+    /**
+     * Get a stage which completes with the entry once it is registered, or immediately if it already is. The stage is completed from the registration loop, so dependent actions which are not
+     * async run during registration, on the registering thread.
+     *
+     * @return A {@link CompletionStage} of the entry
+     */
+    public CompletionStage<T> whenPresent() {
+        T value = this.value;
+        if (value != null) {
+            return CompletableFuture.completedStage(value);
+        }
+        if (this == EMPTY) {
+            return CompletableFuture.failedStage(new NullPointerException("Registry entry is empty"));
+        }
+        CompletableFuture<T> future;
+        synchronized (this) {
+            future = presence;
+            if (future == null) {
+                future = presence = new CompletableFuture<>();
+            }
+            value = getUnchecked();
+        }
+        if (value != null) {
+            future.complete(value);
+        }
+        return future.minimalCompletionStage();
+    }
+
+    private void completePresence(@Nullable T value) {
+        if (value == null) {
+            return;
+        }
+        CompletableFuture<T> future;
+        synchronized (this) {
+            future = presence;
+        }
+        if (future != null) {
+            future.complete(value);
+        }
+    }
+
+    /**
+     * Clear any values cached from the bound entry, called when the entry is looked up again. Subclasses that cache derived values must clear them here.
+     */
+    protected void unbind() {
+        value = null;
+        holder = null;
     }
 
     /**
@@ -72,8 +161,21 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
      */
     @Override
     public @NonnullType T get() {
+        T value = this.value;
+        return value != null ? value : bind();
+    }
+
+    private T bind() {
         RegistryObject<T> delegate = this.delegate;
-        return Objects.requireNonNull(getUnchecked(), () -> delegate == null ? "Registry entry is empty" : "Registry entry not present: " + delegate.getId());
+        T ret = delegate == null ? null : delegate.orElse(null);
+        if (ret == null) {
+            if (owner != null) {
+                owner.getMetrics().recordMissingEntryGet();
+            }
+            throw new NullPointerException(delegate == null ? "Registry entry is empty" : "Registry entry not present: " + delegate.getId());
+        }
+        value = ret;
+        return ret;
     }
 
     /**
@@ -82,12 +184,83 @@ public class RegistryEntry<T> implements NonNullSupplier<T> {
      * @return The (nullable) entry
      */
     public @Nullable T getUnchecked() {
+        T value = this.value;
+        if (value != null) {
+            return value;
+        }
         RegistryObject<T> delegate = this.delegate;
         return delegate == null ? null : delegate.orElse(null);
     }
 
+    /**
+     * Get the registry holder of the entry, which is looked up once and cached.
+     *
+     * @return The holder
+     * @throws IllegalStateException
+     *             if the entry is not present
+     */
+    public Holder.Reference<T> getHolder() {
+        Holder.Reference<T> holder = this.holder;
+        if (holder == null) {
+            holder = this.holder = lookupHolder();
+        }
+        return holder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Holder.Reference<T> lookupHolder() {
+        RegistryObject<T> delegate = this.delegate;
+        Registry<T> registry = delegate == null ? null : (Registry<T>) delegate.getRegistry();
+        if (registry == null || !isPresent()) {
+            throw new IllegalStateException(delegate == null ? "Registry entry is empty" : "Registry entry not present: " + delegate.getId());
+        }
+        return (Holder.Reference<T>) registry.getHolderOrThrow(ResourceKey.create(registry.key(), delegate.getId()));
+    }
+
+    /**
+     * Check if the entry is in the given tag, via its cached {@link #getHolder() holder}. Named apart from {@link #is(Object)}, so existing calls keep resolving to it.
+     *
+     * @param tag
+     *            The tag to check
+     * @return {@code true} if the entry is in the tag
+     * @throws IllegalStateException
+     *             If the entry is not present
+     */
+    @SuppressWarnings("unchecked")
+    public boolean isIn(TagKey<? super T> tag) {
+        return ((Holder<Object>) getHolder()).is((TagKey<Object>) tag);
+    }
+
     public <R, E extends R> RegistryEntry<E> getSibling(ResourceKey<? extends Registry<R>> registryType) {
-        return this == EMPTY ? empty() : owner.get(getId().getPath(), registryType);
+        if (this == EMPTY) {
+            return empty();
+        }
+        RegistryEntry<E> sibling = findSiblingUnchecked(registryType);
+        if (sibling == null) {
+            throw new IllegalArgumentException("Unknown registration " + getId().getPath() + " for type " + registryType);
+        }
+        return sibling;
+    }
+
+    /**
+     * Find the entry of the given registry with the same name as this one, if the same registrate declared one.
+     *
+     * @param registryType
+     *            The registry of the sibling
+     * @return The sibling, or {@link Optional#empty()} if there is none
+     */
+    public <R, E extends R> Optional<RegistryEntry<E>> findSibling(ResourceKey<? extends Registry<R>> registryType) {
+        return this == EMPTY ? Optional.empty() : Optional.ofNullable(findSiblingUnchecked(registryType));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private <R, E extends R> RegistryEntry<E> findSiblingUnchecked(ResourceKey<? extends Registry<R>> registryType) {
+        SiblingLinks siblings = this.siblings;
+        if (siblings == null) {
+            siblings = this.siblings = owner.getSiblingLinks(getId().getPath());
+        }
+        return (RegistryEntry<E>) siblings.get(registryType);
     }
 
     public <R, E extends R> RegistryEntry<E> getSibling(Registry<R> registry) {
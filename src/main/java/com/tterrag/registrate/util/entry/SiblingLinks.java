@@ -0,0 +1,61 @@
+package com.tterrag.registrate.util.entry;
+
+import java.util.Arrays;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The entries of one registrate which share a name, one per registry. Filled in as entries are captured, and shared by all of them, so finding a sibling is a scan of a few array slots rather
+ * than a map lookup per call.
+ * <p>
+ * Registry keys are interned, so they are compared by identity.
+ */
+public final class SiblingLinks {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    /** Registry keys at even indices, their entries at the following odd index. Replaced on every change. */
+    private volatile Object[] links = EMPTY;
+
+    /**
+     * Link an entry, replacing any previous entry of the same registry.
+     *
+     * @param type
+     *            The registry of the entry
+     * @param entry
+     *            The entry
+     */
+    public synchronized void add(ResourceKey<? extends Registry<?>> type, RegistryEntry<?> entry) {
+        Object[] links = this.links;
+        for (int i = 0; i < links.length; i += 2) {
+            if (links[i] == type) {
+                links = links.clone();
+                links[i + 1] = entry;
+                this.links = links;
+                return;
+            }
+        }
+        links = Arrays.copyOf(links, links.length + 2);
+        links[links.length - 2] = type;
+        links[links.length - 1] = entry;
+        this.links = links;
+    }
+
+    /**
+     * @param type
+     *            The registry to find an entry for
+     * @return The entry of the given registry, or null if there is none
+     */
+    @Nullable
+    public RegistryEntry<?> get(ResourceKey<? extends Registry<?>> type) {
+        Object[] links = this.links;
+        for (int i = 0; i < links.length; i += 2) {
+            if (links[i] == type) {
+                return (RegistryEntry<?>) links[i + 1];
+            }
+        }
+        return null;
+    }
+}
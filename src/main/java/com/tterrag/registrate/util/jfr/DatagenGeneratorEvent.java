@@ -0,0 +1,32 @@
+package com.tterrag.registrate.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emitted for each data generator. Generators which are not associated with an entry have no entry or registry.
+ */
+@Name("registrate.DatagenGenerator")
+@Label("Datagen Generator")
+@Category({ "Registrate", "Data Generation" })
+@Description("A single data generator")
+@StackTrace(false)
+public class DatagenGeneratorEvent extends Event {
+
+    @Label("Mod ID")
+    public @Nullable String modid;
+
+    @Label("Provider Type")
+    public @Nullable String providerType;
+
+    @Label("Registry")
+    public @Nullable String registry;
+
+    @Label("Entry")
+    public @Nullable String entry;
+}
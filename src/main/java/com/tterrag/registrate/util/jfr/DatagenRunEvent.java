@@ -0,0 +1,29 @@
+package com.tterrag.registrate.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emitted once per provider type, spanning all data generators registered for that type.
+ */
+@Name("registrate.DatagenRun")
+@Label("Datagen Run")
+@Category({ "Registrate", "Data Generation" })
+@Description("All data generators of one provider type")
+@StackTrace(false)
+public class DatagenRunEvent extends Event {
+
+    @Label("Mod ID")
+    public @Nullable String modid;
+
+    @Label("Provider Type")
+    public @Nullable String providerType;
+
+    @Label("Generators")
+    public int generators;
+}
@@ -0,0 +1,29 @@
+package com.tterrag.registrate.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emitted for the construction of a single entry, i.e. the call to its builder's factory.
+ */
+@Name("registrate.EntryConstruction")
+@Label("Entry Construction")
+@Category({ "Registrate", "Registration" })
+@Description("Construction of a single registry entry")
+@StackTrace(false)
+public class EntryConstructionEvent extends Event {
+
+    @Label("Mod ID")
+    public @Nullable String modid;
+
+    @Label("Registry")
+    public @Nullable String registry;
+
+    @Label("Entry")
+    public @Nullable String entry;
+}
@@ -0,0 +1,33 @@
+package com.tterrag.registrate.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emitted for each register callback, and each callback run after a registry has completed. The latter have no entry.
+ */
+@Name("registrate.RegisterCallback")
+@Label("Register Callback")
+@Category({ "Registrate", "Registration" })
+@Description("A callback run when an entry is registered, or after a registry has completed")
+@StackTrace(false)
+public class RegisterCallbackEvent extends Event {
+
+    @Label("Mod ID")
+    public @Nullable String modid;
+
+    @Label("Registry")
+    public @Nullable String registry;
+
+    @Label("Entry")
+    public @Nullable String entry;
+
+    @Label("After Registry")
+    @Description("Whether this callback ran after the registry completed, rather than when an entry was registered")
+    public boolean afterRegister;
+}
@@ -0,0 +1,29 @@
+package com.tterrag.registrate.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emitted once per registry which a Registrate instance has entries for, spanning the construction and registration of all of them.
+ */
+@Name("registrate.RegistryRegistration")
+@Label("Registry Registration")
+@Category({ "Registrate", "Registration" })
+@Description("Construction and registration of all entries of one registry")
+@StackTrace(false)
+public class RegistryRegistrationEvent extends Event {
+
+    @Label("Mod ID")
+    public @Nullable String modid;
+
+    @Label("Registry")
+    public @Nullable String registry;
+
+    @Label("Entries")
+    public int entries;
+}
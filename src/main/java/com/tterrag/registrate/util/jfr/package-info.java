@@ -0,0 +1,4 @@
+//@javax.annotation.ParametersAreNonnullByDefault
+@net.minecraft.MethodsReturnNonnullByDefault
+@com.tterrag.registrate.util.nullness.FieldsAreNonnullByDefault
+package com.tterrag.registrate.util.jfr;
@@ -0,0 +1,229 @@
+package com.tterrag.registrate.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates holder classes for {@code @RegistrateDeclarations} classes.
+ * <p>
+ * Each holder has one {@code public static final} entry field per {@code @RegistrateEntry} method, all declared from its static initializer through {@code AbstractRegistrate#declare}. A single
+ * nested {@code Factory} class dispatches on an entry index to call the factory methods directly and to wrap each entry, so no lambdas or method references are linked at class init.
+ * <p>
+ * Annotations are read by name, so this processor does not need Registrate or Minecraft on its classpath.
+ */
+@SupportedAnnotationTypes({ RegistrateProcessor.DECLARATIONS, RegistrateProcessor.ENTRY })
+public class RegistrateProcessor extends AbstractProcessor {
+
+    static final String DECLARATIONS = "com.tterrag.registrate.annotations.RegistrateDeclarations";
+    static final String ENTRY = "com.tterrag.registrate.annotations.RegistrateEntry";
+
+    private static final String BLOCK = "net.minecraft.world.level.block.Block";
+    private static final String ITEM = "net.minecraft.world.item.Item";
+
+    private static final String REGISTRY_ENTRY = "com.tterrag.registrate.util.entry.RegistryEntry";
+    private static final String BLOCK_ENTRY = "com.tterrag.registrate.util.entry.BlockEntry";
+    private static final String ITEM_ENTRY = "com.tterrag.registrate.util.entry.ItemEntry";
+
+    private record Entry(String name, String registry, ExecutableElement method, String field, String wrapper) {}
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement declarations = elements.getTypeElement(DECLARATIONS);
+        TypeElement entry = elements.getTypeElement(ENTRY);
+        if (declarations == null || entry == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(entry)) {
+            Element owner = element.getEnclosingElement();
+            if (getMirror(owner, DECLARATIONS) == null) {
+                error(element, "@RegistrateEntry methods must be declared in a @RegistrateDeclarations class");
+            }
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(declarations)) {
+            if (element instanceof TypeElement type) {
+                try {
+                    generate(type);
+                } catch (IOException e) {
+                    error(type, "Could not write Registrate holder class: " + e);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        AnnotationMirror declarations = getMirror(type, DECLARATIONS);
+        String registrate = getString(declarations, "registrate");
+        String holder = getString(declarations, "holder");
+        if (holder == null || holder.isEmpty()) {
+            holder = flatName(type) + "Entries";
+        }
+        String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+
+        List<Entry> entries = new ArrayList<>();
+        Set<String> fields = new HashSet<>();
+        for (Element member : type.getEnclosedElements()) {
+            AnnotationMirror mirror = getMirror(member, ENTRY);
+            if (mirror == null || member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            if (!method.getModifiers().contains(Modifier.STATIC) || method.getModifiers().contains(Modifier.PRIVATE) || !method.getParameters().isEmpty()
+                    || method.getReturnType().getKind() != TypeKind.DECLARED) {
+                error(method, "@RegistrateEntry methods must be static, non-private, take no parameters and return an object");
+                continue;
+            }
+            String name = getString(mirror, "name");
+            String field = name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9_]", "_");
+            if (!fields.add(field)) {
+                error(method, "Duplicate entry field " + field + " in " + type.getQualifiedName());
+                continue;
+            }
+            entries.add(new Entry(name, getString(mirror, "registry"), method, field, wrapperFor(method.getReturnType())));
+        }
+
+        Map<String, String> registryKeys = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            registryKeys.computeIfAbsent(entry.registry(), k -> "REGISTRY_" + registryKeys.size());
+        }
+
+        String owner = type.getQualifiedName().toString();
+        try (Writer writer = processingEnv.getFiler().createSourceFile(pkg.isEmpty() ? holder : pkg + "." + holder, type).openWriter(); PrintWriter out = new PrintWriter(writer)) {
+            if (!pkg.isEmpty()) {
+                out.println("package " + pkg + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + RegistrateProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+            out.println("public final class " + holder + " {");
+            out.println();
+            registryKeys.forEach((registry, field) -> out.println("    private static final net.minecraft.resources.ResourceKey " + field
+                    + " = net.minecraft.resources.ResourceKey.createRegistryKey(new net.minecraft.resources.ResourceLocation(\"" + registry + "\"));"));
+            out.println();
+            for (Entry entry : entries) {
+                out.println("    public static final " + entry.wrapper() + "<" + entry.method().getReturnType() + "> " + entry.field() + ";");
+            }
+            out.println();
+            out.println("    static {");
+            out.println("        com.tterrag.registrate.AbstractRegistrate registrate = " + owner + "." + registrate + ";");
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                out.println("        Factory factory" + i + " = new Factory(registrate, " + i + ");");
+                out.println("        " + entry.field() + " = (" + entry.wrapper() + ") registrate.declare(\"" + entry.name() + "\", " + registryKeys.get(entry.registry()) + ", factory" + i + ", factory" + i + ");");
+            }
+            out.println("    }");
+            out.println();
+            out.println("    private " + holder + "() {}");
+            out.println();
+            out.println("    private static final class Factory implements com.tterrag.registrate.util.nullness.NonNullSupplier<Object>, "
+                    + "com.tterrag.registrate.util.nullness.NonNullFunction<com.tterrag.registrate.fabric.RegistryObject<Object>, " + REGISTRY_ENTRY + "<Object>> {");
+            out.println();
+            out.println("        private final com.tterrag.registrate.AbstractRegistrate<?> owner;");
+            out.println("        private final int id;");
+            out.println();
+            out.println("        Factory(com.tterrag.registrate.AbstractRegistrate<?> owner, int id) {");
+            out.println("            this.owner = owner;");
+            out.println("            this.id = id;");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public Object get() {");
+            out.println("            switch (id) {");
+            for (int i = 0; i < entries.size(); i++) {
+                out.println("            case " + i + ": return " + owner + "." + entries.get(i).method().getSimpleName() + "();");
+            }
+            out.println("            default: throw new IllegalStateException(\"Unknown entry \" + id);");
+            out.println("            }");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public " + REGISTRY_ENTRY + "<Object> apply(com.tterrag.registrate.fabric.RegistryObject<Object> delegate) {");
+            out.println("            switch (id) {");
+            for (int i = 0; i < entries.size(); i++) {
+                out.println("            case " + i + ": return new " + entries.get(i).wrapper() + "(owner, delegate);");
+            }
+            out.println("            default: throw new IllegalStateException(\"Unknown entry \" + id);");
+            out.println("            }");
+            out.println("        }");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private String wrapperFor(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement block = elements.getTypeElement(BLOCK);
+        TypeElement item = elements.getTypeElement(ITEM);
+        if (block != null && types.isSubtype(types.erasure(type), types.erasure(block.asType()))) {
+            return BLOCK_ENTRY;
+        } else if (item != null && types.isSubtype(types.erasure(type), types.erasure(item.asType()))) {
+            return ITEM_ENTRY;
+        }
+        return REGISTRY_ENTRY;
+    }
+
+    private static String flatName(TypeElement type) {
+        StringBuilder ret = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e != null && !(e instanceof PackageElement); e = e.getEnclosingElement()) {
+            ret.insert(0, e.getSimpleName() + "_");
+        }
+        return ret.toString();
+    }
+
+    private static AnnotationMirror getMirror(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String getString(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : mirror.getElementValues().entrySet()) {
+            if (e.getKey().getSimpleName().contentEquals(name)) {
+                return (String) e.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
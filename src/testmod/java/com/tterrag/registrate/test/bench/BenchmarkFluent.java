@@ -0,0 +1,77 @@
+package com.tterrag.registrate.test.bench;
+
+import com.tterrag.registrate.Registrate;
+import com.tterrag.registrate.util.entry.BlockEntry;
+import net.minecraft.world.level.block.Block;
+
+/**
+ * Declares {@value RegistrationBenchmark#ENTRIES} blocks through the fluent builder path, each from its own call site as in a real mod.
+ */
+class BenchmarkFluent {
+
+    static final Registrate REGISTRATE = Registrate.create("testmod_bench");
+    static final BlockEntry<Block> FLUENT_0 = REGISTRATE.block("fluent_0", Block::new).register();
+    static final BlockEntry<Block> FLUENT_1 = REGISTRATE.block("fluent_1", Block::new).register();
+    static final BlockEntry<Block> FLUENT_2 = REGISTRATE.block("fluent_2", Block::new).register();
+    static final BlockEntry<Block> FLUENT_3 = REGISTRATE.block("fluent_3", Block::new).register();
+    static final BlockEntry<Block> FLUENT_4 = REGISTRATE.block("fluent_4", Block::new).register();
+    static final BlockEntry<Block> FLUENT_5 = REGISTRATE.block("fluent_5", Block::new).register();
+    static final BlockEntry<Block> FLUENT_6 = REGISTRATE.block("fluent_6", Block::new).register();
+    static final BlockEntry<Block> FLUENT_7 = REGISTRATE.block("fluent_7", Block::new).register();
+    static final BlockEntry<Block> FLUENT_8 = REGISTRATE.block("fluent_8", Block::new).register();
+    static final BlockEntry<Block> FLUENT_9 = REGISTRATE.block("fluent_9", Block::new).register();
+    static final BlockEntry<Block> FLUENT_10 = REGISTRATE.block("fluent_10", Block::new).register();
+    static final BlockEntry<Block> FLUENT_11 = REGISTRATE.block("fluent_11", Block::new).register();
+    static final BlockEntry<Block> FLUENT_12 = REGISTRATE.block("fluent_12", Block::new).register();
+    static final BlockEntry<Block> FLUENT_13 = REGISTRATE.block("fluent_13", Block::new).register();
+    static final BlockEntry<Block> FLUENT_14 = REGISTRATE.block("fluent_14", Block::new).register();
+    static final BlockEntry<Block> FLUENT_15 = REGISTRATE.block("fluent_15", Block::new).register();
+    static final BlockEntry<Block> FLUENT_16 = REGISTRATE.block("fluent_16", Block::new).register();
+    static final BlockEntry<Block> FLUENT_17 = REGISTRATE.block("fluent_17", Block::new).register();
+    static final BlockEntry<Block> FLUENT_18 = REGISTRATE.block("fluent_18", Block::new).register();
+    static final BlockEntry<Block> FLUENT_19 = REGISTRATE.block("fluent_19", Block::new).register();
+    static final BlockEntry<Block> FLUENT_20 = REGISTRATE.block("fluent_20", Block::new).register();
+    static final BlockEntry<Block> FLUENT_21 = REGISTRATE.block("fluent_21", Block::new).register();
+    static final BlockEntry<Block> FLUENT_22 = REGISTRATE.block("fluent_22", Block::new).register();
+    static final BlockEntry<Block> FLUENT_23 = REGISTRATE.block("fluent_23", Block::new).register();
+    static final BlockEntry<Block> FLUENT_24 = REGISTRATE.block("fluent_24", Block::new).register();
+    static final BlockEntry<Block> FLUENT_25 = REGISTRATE.block("fluent_25", Block::new).register();
+    static final BlockEntry<Block> FLUENT_26 = REGISTRATE.block("fluent_26", Block::new).register();
+    static final BlockEntry<Block> FLUENT_27 = REGISTRATE.block("fluent_27", Block::new).register();
+    static final BlockEntry<Block> FLUENT_28 = REGISTRATE.block("fluent_28", Block::new).register();
+    static final BlockEntry<Block> FLUENT_29 = REGISTRATE.block("fluent_29", Block::new).register();
+    static final BlockEntry<Block> FLUENT_30 = REGISTRATE.block("fluent_30", Block::new).register();
+    static final BlockEntry<Block> FLUENT_31 = REGISTRATE.block("fluent_31", Block::new).register();
+    static final BlockEntry<Block> FLUENT_32 = REGISTRATE.block("fluent_32", Block::new).register();
+    static final BlockEntry<Block> FLUENT_33 = REGISTRATE.block("fluent_33", Block::new).register();
+    static final BlockEntry<Block> FLUENT_34 = REGISTRATE.block("fluent_34", Block::new).register();
+    static final BlockEntry<Block> FLUENT_35 = REGISTRATE.block("fluent_35", Block::new).register();
+    static final BlockEntry<Block> FLUENT_36 = REGISTRATE.block("fluent_36", Block::new).register();
+    static final BlockEntry<Block> FLUENT_37 = REGISTRATE.block("fluent_37", Block::new).register();
+    static final BlockEntry<Block> FLUENT_38 = REGISTRATE.block("fluent_38", Block::new).register();
+    static final BlockEntry<Block> FLUENT_39 = REGISTRATE.block("fluent_39", Block::new).register();
+    static final BlockEntry<Block> FLUENT_40 = REGISTRATE.block("fluent_40", Block::new).register();
+    static final BlockEntry<Block> FLUENT_41 = REGISTRATE.block("fluent_41", Block::new).register();
+    static final BlockEntry<Block> FLUENT_42 = REGISTRATE.block("fluent_42", Block::new).register();
+    static final BlockEntry<Block> FLUENT_43 = REGISTRATE.block("fluent_43", Block::new).register();
+    static final BlockEntry<Block> FLUENT_44 = REGISTRATE.block("fluent_44", Block::new).register();
+    static final BlockEntry<Block> FLUENT_45 = REGISTRATE.block("fluent_45", Block::new).register();
+    static final BlockEntry<Block> FLUENT_46 = REGISTRATE.block("fluent_46", Block::new).register();
+    static final BlockEntry<Block> FLUENT_47 = REGISTRATE.block("fluent_47", Block::new).register();
+    static final BlockEntry<Block> FLUENT_48 = REGISTRATE.block("fluent_48", Block::new).register();
+    static final BlockEntry<Block> FLUENT_49 = REGISTRATE.block("fluent_49", Block::new).register();
+    static final BlockEntry<Block> FLUENT_50 = REGISTRATE.block("fluent_50", Block::new).register();
+    static final BlockEntry<Block> FLUENT_51 = REGISTRATE.block("fluent_51", Block::new).register();
+    static final BlockEntry<Block> FLUENT_52 = REGISTRATE.block("fluent_52", Block::new).register();
+    static final BlockEntry<Block> FLUENT_53 = REGISTRATE.block("fluent_53", Block::new).register();
+    static final BlockEntry<Block> FLUENT_54 = REGISTRATE.block("fluent_54", Block::new).register();
+    static final BlockEntry<Block> FLUENT_55 = REGISTRATE.block("fluent_55", Block::new).register();
+    static final BlockEntry<Block> FLUENT_56 = REGISTRATE.block("fluent_56", Block::new).register();
+    static final BlockEntry<Block> FLUENT_57 = REGISTRATE.block("fluent_57", Block::new).register();
+    static final BlockEntry<Block> FLUENT_58 = REGISTRATE.block("fluent_58", Block::new).register();
+    static final BlockEntry<Block> FLUENT_59 = REGISTRATE.block("fluent_59", Block::new).register();
+    static final BlockEntry<Block> FLUENT_60 = REGISTRATE.block("fluent_60", Block::new).register();
+    static final BlockEntry<Block> FLUENT_61 = REGISTRATE.block("fluent_61", Block::new).register();
+    static final BlockEntry<Block> FLUENT_62 = REGISTRATE.block("fluent_62", Block::new).register();
+    static final BlockEntry<Block> FLUENT_63 = REGISTRATE.block("fluent_63", Block::new).register();
+}
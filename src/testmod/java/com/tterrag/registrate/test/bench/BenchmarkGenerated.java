@@ -0,0 +1,337 @@
+package com.tterrag.registrate.test.bench;
+
+import com.tterrag.registrate.Registrate;
+import com.tterrag.registrate.annotations.RegistrateDeclarations;
+import com.tterrag.registrate.annotations.RegistrateEntry;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.material.Material;
+
+/**
+ * Declares {@value RegistrationBenchmark#ENTRIES} blocks through the annotation processor, in the generated {@code BenchmarkGeneratedEntries}.
+ */
+@RegistrateDeclarations(registrate = "REGISTRATE")
+class BenchmarkGenerated {
+
+    static final Registrate REGISTRATE = Registrate.create("testmod_bench");
+
+    @RegistrateEntry(name = "generated_0", registry = "minecraft:block")
+    static Block generated0() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_1", registry = "minecraft:block")
+    static Block generated1() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_2", registry = "minecraft:block")
+    static Block generated2() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_3", registry = "minecraft:block")
+    static Block generated3() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_4", registry = "minecraft:block")
+    static Block generated4() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_5", registry = "minecraft:block")
+    static Block generated5() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_6", registry = "minecraft:block")
+    static Block generated6() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_7", registry = "minecraft:block")
+    static Block generated7() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_8", registry = "minecraft:block")
+    static Block generated8() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_9", registry = "minecraft:block")
+    static Block generated9() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_10", registry = "minecraft:block")
+    static Block generated10() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_11", registry = "minecraft:block")
+    static Block generated11() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_12", registry = "minecraft:block")
+    static Block generated12() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_13", registry = "minecraft:block")
+    static Block generated13() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_14", registry = "minecraft:block")
+    static Block generated14() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_15", registry = "minecraft:block")
+    static Block generated15() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_16", registry = "minecraft:block")
+    static Block generated16() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_17", registry = "minecraft:block")
+    static Block generated17() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_18", registry = "minecraft:block")
+    static Block generated18() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_19", registry = "minecraft:block")
+    static Block generated19() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_20", registry = "minecraft:block")
+    static Block generated20() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_21", registry = "minecraft:block")
+    static Block generated21() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_22", registry = "minecraft:block")
+    static Block generated22() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_23", registry = "minecraft:block")
+    static Block generated23() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_24", registry = "minecraft:block")
+    static Block generated24() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_25", registry = "minecraft:block")
+    static Block generated25() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_26", registry = "minecraft:block")
+    static Block generated26() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_27", registry = "minecraft:block")
+    static Block generated27() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_28", registry = "minecraft:block")
+    static Block generated28() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_29", registry = "minecraft:block")
+    static Block generated29() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_30", registry = "minecraft:block")
+    static Block generated30() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_31", registry = "minecraft:block")
+    static Block generated31() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_32", registry = "minecraft:block")
+    static Block generated32() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_33", registry = "minecraft:block")
+    static Block generated33() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_34", registry = "minecraft:block")
+    static Block generated34() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_35", registry = "minecraft:block")
+    static Block generated35() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_36", registry = "minecraft:block")
+    static Block generated36() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_37", registry = "minecraft:block")
+    static Block generated37() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_38", registry = "minecraft:block")
+    static Block generated38() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_39", registry = "minecraft:block")
+    static Block generated39() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_40", registry = "minecraft:block")
+    static Block generated40() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_41", registry = "minecraft:block")
+    static Block generated41() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_42", registry = "minecraft:block")
+    static Block generated42() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_43", registry = "minecraft:block")
+    static Block generated43() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_44", registry = "minecraft:block")
+    static Block generated44() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_45", registry = "minecraft:block")
+    static Block generated45() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_46", registry = "minecraft:block")
+    static Block generated46() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_47", registry = "minecraft:block")
+    static Block generated47() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_48", registry = "minecraft:block")
+    static Block generated48() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_49", registry = "minecraft:block")
+    static Block generated49() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_50", registry = "minecraft:block")
+    static Block generated50() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_51", registry = "minecraft:block")
+    static Block generated51() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_52", registry = "minecraft:block")
+    static Block generated52() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_53", registry = "minecraft:block")
+    static Block generated53() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_54", registry = "minecraft:block")
+    static Block generated54() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_55", registry = "minecraft:block")
+    static Block generated55() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_56", registry = "minecraft:block")
+    static Block generated56() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_57", registry = "minecraft:block")
+    static Block generated57() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_58", registry = "minecraft:block")
+    static Block generated58() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_59", registry = "minecraft:block")
+    static Block generated59() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_60", registry = "minecraft:block")
+    static Block generated60() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_61", registry = "minecraft:block")
+    static Block generated61() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_62", registry = "minecraft:block")
+    static Block generated62() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+
+    @RegistrateEntry(name = "generated_63", registry = "minecraft:block")
+    static Block generated63() {
+        return new Block(BlockBehaviour.Properties.of(Material.STONE));
+    }
+}
@@ -0,0 +1,43 @@
+package com.tterrag.registrate.test.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compares the startup cost of declaring entries through generated code and through fluent builder chains. Run with {@code -Dregistrate.benchmark}, e.g. via the
+ * {@code testmodBenchmark} run configuration.
+ * <p>
+ * Each path is measured by initializing its holder class, which is when entries are declared, including class loading and lambda linkage. Entries are never registered. The generated path runs
+ * first, so it also pays for warming up shared Registrate code.
+ * <p>
+ * This is only a smoke test, not a rigorous benchmark: a class can only be initialized once, so each path is a single cold timing, without warmup or repeated runs. Compare results across
+ * several launches, and expect the order to bias them.
+ */
+@Log4j2
+public class RegistrationBenchmark {
+
+    static final int ENTRIES = 64;
+
+    public static boolean isEnabled() {
+        return System.getProperty("registrate.benchmark") != null;
+    }
+
+    public static void run() {
+        long generated = time("com.tterrag.registrate.test.bench.BenchmarkGeneratedEntries");
+        long fluent = time("com.tterrag.registrate.test.bench.BenchmarkFluent");
+        log.info("Declared {} entries (single cold run): generated {} us ({} us/entry), fluent {} us ({} us/entry)", ENTRIES,
+                TimeUnit.NANOSECONDS.toMicros(generated), TimeUnit.NANOSECONDS.toMicros(generated / ENTRIES),
+                TimeUnit.NANOSECONDS.toMicros(fluent), TimeUnit.NANOSECONDS.toMicros(fluent / ENTRIES));
+    }
+
+    private static long time(String holder) {
+        long start = System.nanoTime();
+        try {
+            Class.forName(holder, true, RegistrationBenchmark.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Benchmark holder class missing, was the annotation processor run?", e);
+        }
+        return System.nanoTime() - start;
+    }
+}
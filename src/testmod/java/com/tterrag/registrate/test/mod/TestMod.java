@@ -1,16 +1,23 @@
 package com.tterrag.registrate.test.mod;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import com.tterrag.registrate.fabric.SimpleFlowableFluid;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.tterrag.registrate.Registrate;
+import com.tterrag.registrate.RegistrateCoordinator;
 import com.tterrag.registrate.builders.BlockBuilder;
 import com.tterrag.registrate.providers.ProviderType;
+import com.tterrag.registrate.test.bench.RegistrationBenchmark;
 import com.tterrag.registrate.util.DataIngredient;
 import com.tterrag.registrate.util.entry.BlockEntityEntry;
 import com.tterrag.registrate.util.entry.BlockEntry;
+import com.tterrag.registrate.util.entry.EntryGroup;
 import com.tterrag.registrate.util.entry.EntityEntry;
 import com.tterrag.registrate.util.entry.FluidEntry;
 import com.tterrag.registrate.util.entry.ItemEntry;
@@ -66,10 +73,12 @@ import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition.Builder;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.material.Material;
 import net.minecraft.world.level.storage.loot.LootPool;
 import net.minecraft.world.level.storage.loot.LootTable;
 import net.minecraft.world.level.storage.loot.entries.LootItem;
@@ -98,17 +107,45 @@ public class TestMod implements ModInitializer {
                             new ResourceLocation("textures/gui/advancements/backgrounds/stone.png"), FrameType.TASK, true, true, false)
                     .save(adv, registrate.getModid() + ":root");
         });
-        registrate.register();
+        testitem.whenPresent().thenAccept(item -> sawPresent.set(true));
+        registrate.whenRegistryComplete(Registry.BLOCK_REGISTRY).thenRun(() -> sawRegistryComplete.set(true));
+
+        // Entries of the concurrent registrate are declared from several threads, and constructed in parallel
+        List<ItemEntry<Item>> concurrentItems = IntStream.range(0, 16).parallel()
+                .mapToObj(i -> concurrentRegistrate.object("concurrent_item_" + i).item(Item::new).register())
+                .toList();
+
+        RegistrateCoordinator.batch(() -> {
+            registrate.register();
+            concurrentRegistrate.register();
+        });
 
         if (!sawCallback.get()) {
             throw new IllegalStateException("Register callback not fired!");
         }
+        if (!sawPresent.get() || !sawRegistryComplete.get()) {
+            throw new IllegalStateException("Registration stages not completed!");
+        }
+
+        EntryGroup<Block> blocks = EntryGroup.of(registrate, Registry.BLOCK_REGISTRY);
+        if (!blocks.contains(testblock.get()) || !testwoolgroup.contains(testwool.get(DyeColor.RED).getDefaultState()) || testwoolgroup.contains(Blocks.RED_WOOL)) {
+            throw new IllegalStateException("Entry group membership is wrong!");
+        }
+        EntryGroup<Item> concurrentGroup = EntryGroup.of(concurrentRegistrate, Registry.ITEM_REGISTRY);
+        if (!concurrentItems.stream().allMatch(item -> concurrentGroup.contains(item.get())) || concurrentGroup.contains(testitem.get())) {
+            throw new IllegalStateException("Concurrently declared items not registered!");
+        }
 
         testblock.asStack();
         testitem.is(Items.SNOWBALL);
         testblockitem.is(Items.STONE);
         testblockbe.is(BlockEntityType.CHEST);
+        bulkEntries.forEach(RegistryEntry::get);
         // testbiome.is(Feature.BAMBOO); // should not compile
+
+        if (RegistrationBenchmark.isEnabled()) {
+            RegistrationBenchmark.run();
+        }
     }
 
     private class TestBlock extends Block implements EntityBlock {
@@ -207,7 +244,10 @@ public class TestMod implements ModInitializer {
     private static class TestCustomRegistryEntry {}
 
     static final Registrate registrate = Registrate.create("testmod").creativeModeTab(() -> FabricItemGroupBuilder.build(new ResourceLocation("testmod", "testmod"), () -> new ItemStack(Items.EGG)), "Test Mod");
+    static final Registrate concurrentRegistrate = Registrate.create("testmod").concurrentDeclaration().parallelConstruction(true);
     private final AtomicBoolean sawCallback = new AtomicBoolean();
+    private final AtomicBoolean sawPresent = new AtomicBoolean();
+    private final AtomicBoolean sawRegistryComplete = new AtomicBoolean();
 
     private final RegistryEntry<Item> testitem = registrate.object("testitem")
             .item(Item::new)
@@ -261,6 +301,25 @@ public class TestMod implements ModInitializer {
             .simpleItem()
             .register();
 
+    private final List<RegistryEntry<?>> bulkEntries = registrate.bulk()
+            .blockFactory("simple", Block::new)
+            .itemFactory("simple", Item::new)
+            .blockProperties("planks", p -> BlockBehaviour.Properties.copy(Blocks.OAK_PLANKS))
+            .blockModel("planks", (ctx, prov) -> prov.simpleBlock(ctx.getEntry(),
+                    prov.models().withExistingParent(ctx.getName(), prov.mcLoc("block/oak_planks"))))
+            .itemModel("diamond", (ctx, prov) -> prov.withExistingParent(ctx.getName(), prov.mcLoc("item/diamond")))
+            .load(TestMod.class, "/data/testmod/bulk/decor.csv");
+
+    private final Map<DyeColor, BlockEntry<Block>> testwool = registrate.family(Arrays.asList(DyeColor.values()), c -> c.getName() + "_testwool", (c, p) -> new Block(p), Material.WOOL)
+            .properties((c, p) -> p.color(c.getMaterialColor()).strength(0.8f))
+            .blockstate((ctx, prov, c) -> prov.simpleBlock(ctx.getEntry(),
+                    prov.models().withExistingParent(ctx.getName(), prov.mcLoc("block/" + c.getName() + "_wool"))))
+            .tag(BlockTags.WOOL)
+            .simpleItem()
+            .itemTag(ItemTags.WOOL)
+            .register();
+    private final EntryGroup<Block> testwoolgroup = EntryGroup.of(Registry.BLOCK_REGISTRY, testwool.values());
+
     private final ItemEntry<BlockItem> testblockitem = (ItemEntry<BlockItem>) testblock.<Item, BlockItem>getSibling(Registry.ITEM_REGISTRY);
     private final BlockEntityEntry<ChestBlockEntity> testblockbe = BlockEntityEntry.cast(testblock.getSibling(Registry.BLOCK_ENTITY_TYPE_REGISTRY));
     